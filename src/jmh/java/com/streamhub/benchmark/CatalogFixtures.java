@@ -0,0 +1,77 @@
+package com.streamhub.benchmark;
+
+import com.streamhub.entity.Content;
+import com.streamhub.repository.projection.CatalogItemView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic catalog rows shaped like production data, shared by the benchmarks
+ */
+final class CatalogFixtures {
+
+    private static final String[] TYPES = {"Movie", "Series", "Documentary", "Short"};
+    private static final String[] GENRES = {"Drama", "Comedy", "Action", "Thriller", "Animation", "Sci-Fi", "Romance"};
+    private static final String[] LANGUAGES = {"English", "Spanish", "French", "German", "Japanese", "Hindi"};
+    private static final String[] RATINGS = {"G", "PG", "PG-13", "R", "TV-MA"};
+    private static final String DESCRIPTION = "A long-form synopsis of the title as entered by the catalog team, "
+        + "covering premise, principal cast and the setting, usually two or three sentences long so that "
+        + "serialized pages carry realistic text payloads.";
+
+    private CatalogFixtures() {
+    }
+
+    static List<CatalogItemView> rows(int count, boolean withStream) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<CatalogItemView> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = 100_000L + i;
+            rows.add(new CatalogItemView(id, base.plusMinutes(i), "Title " + id + " " + GENRES[i % GENRES.length],
+                DESCRIPTION, pick(GENRES, random), pick(LANGUAGES, random), pick(TYPES, random), pick(RATINGS, random),
+                "https://cdn.streamhub.example/thumbnails/" + id + ".jpg", 20 + random.nextInt(160),
+                withStream ? "https://stream.streamhub.example/hls/" + id + "/master.m3u8" : null,
+                withStream ? 1200 + random.nextInt(9600) : null));
+        }
+        return rows;
+    }
+
+    static Page<CatalogItemView> rowPage(int count, boolean withStream) {
+        return new PageImpl<>(rows(count, withStream), PageRequest.of(0, count), 50_000);
+    }
+
+    static List<Content> contents(int count) {
+        List<Content> contents = new ArrayList<>(count);
+        for (CatalogItemView row : rows(count, false)) {
+            contents.add(Content.builder()
+                .id(row.id())
+                .title(row.title())
+                .description(row.description())
+                .contentType(row.contentType())
+                .genre(row.genre())
+                .language(row.language())
+                .rating(row.rating())
+                .thumbnailURL(row.thumbnailURL())
+                .duration(row.duration())
+                .status("ACTIVE")
+                .createdAt(row.createdAt())
+                .updatedAt(row.createdAt())
+                .build());
+        }
+        return contents;
+    }
+
+    static Page<Content> contentPage(int count) {
+        return new PageImpl<>(contents(count), PageRequest.of(0, count), 50_000);
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,75 @@
+package com.streamhub.benchmark;
+
+import com.streamhub.dto.CatalogResponseDTO;
+import com.streamhub.entity.Content;
+import com.streamhub.mapper.ContentMapper;
+import com.streamhub.repository.projection.CatalogItemView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of mapping one catalog page to DTOs, from entities and from projected rows.
+ * Run with -prof gc (the profile default) to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private List<Content> contents;
+    private List<CatalogItemView> rows;
+    private Page<Content> contentPage;
+    private Page<CatalogItemView> rowPage;
+
+    @Setup
+    public void setUp() {
+        contents = CatalogFixtures.contents(pageSize);
+        rows = CatalogFixtures.rows(pageSize, false);
+        contentPage = CatalogFixtures.contentPage(pageSize);
+        rowPage = CatalogFixtures.rowPage(pageSize, false);
+    }
+
+    @Benchmark
+    public void toMediaItemDTOFromEntity(Blackhole blackhole) {
+        for (Content content : contents) {
+            blackhole.consume(ContentMapper.toMediaItemDTO(content));
+        }
+    }
+
+    @Benchmark
+    public void toMediaItemDTOFromRow(Blackhole blackhole) {
+        for (CatalogItemView row : rows) {
+            blackhole.consume(ContentMapper.toMediaItemDTO(row));
+        }
+    }
+
+    @Benchmark
+    public CatalogResponseDTO toCatalogResponseDTOFromEntities() {
+        return ContentMapper.toCatalogResponseDTO(contentPage, 0);
+    }
+
+    @Benchmark
+    public CatalogResponseDTO toCatalogResponseDTOFromRows() {
+        return ContentMapper.toCatalogResponseDTO(rowPage, 0, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.streamhub.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.streamhub.dto.CatalogResponseDTO;
+import com.streamhub.mapper.ContentMapper;
+import com.streamhub.repository.projection.CatalogItemView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of writing one catalog page as JSON with an ObjectMapper configured like the application's
+ * spring.jackson.* settings; indentOutput toggles spring.jackson.serialization.indent-output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    @Param({"true", "false"})
+    public boolean indentOutput;
+
+    @Param({"false", "true"})
+    public boolean includeStream;
+
+    private ObjectMapper objectMapper;
+    private Page<CatalogItemView> rowPage;
+    private CatalogResponseDTO response;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        if (indentOutput) {
+            builder.featuresToEnable(SerializationFeature.INDENT_OUTPUT);
+        }
+        objectMapper = builder.build();
+        rowPage = CatalogFixtures.rowPage(pageSize, includeStream);
+        response = ContentMapper.toCatalogResponseDTO(rowPage, 0, "djF8Y3JlYXRlZEF0fGRlc2N8MjAyNC0wMS0wMVQwMDowMHwxMDAwMDA");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ContentMapper.toCatalogResponseDTO(rowPage, 0, null));
+    }
+}
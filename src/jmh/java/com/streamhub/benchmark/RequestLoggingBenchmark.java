@@ -0,0 +1,90 @@
+package com.streamhub.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Logging cost of one catalog GET on the request thread: the controller and service lines logged eagerly at
+ * INFO as before, the same lines concatenated eagerly at a disabled level, and the lazy DEBUG line that
+ * replaced them. The handler only counts records, so formatting and console output (done by the async
+ * appender's worker in the application) are left out. Run with -prof gc for the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private final Logger logger = Logger.getLogger("com.streamhub.benchmark.RequestLoggingBenchmark");
+    private final CountingHandler handler = new CountingHandler();
+
+    // Fields rather than constants, so the messages cannot be folded at compile time
+    public int page = 3;
+    public int pageSize = 20;
+    public String sortBy = "createdAt";
+    public String sortDirection = "desc";
+
+    @Setup
+    public void setUp() {
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.setLevel(Level.INFO);
+    }
+
+    @Benchmark
+    public long eagerInfo() {
+        logger.info("GET request: Fetch catalog - page=" + page + ", pageSize=" + pageSize +
+                    ", sortBy=" + sortBy + ", sortDirection=" + sortDirection);
+        logger.info("Building catalog response - page=" + page + ", pageSize=" + pageSize +
+                    ", sortBy=" + sortBy + ", sortDirection=" + sortDirection);
+        return handler.characters;
+    }
+
+    @Benchmark
+    public long eagerDebugDisabled() {
+        logger.fine("GET request: Fetch catalog - page=" + page + ", pageSize=" + pageSize +
+                    ", sortBy=" + sortBy + ", sortDirection=" + sortDirection);
+        return handler.characters;
+    }
+
+    @Benchmark
+    public long lazyDebugDisabled() {
+        logger.fine(() -> "GET request: Fetch catalog - page=" + page + ", pageSize=" + pageSize +
+                    ", sortBy=" + sortBy + ", sortDirection=" + sortDirection);
+        return handler.characters;
+    }
+
+    private static final class CountingHandler extends Handler {
+
+        private long characters;
+
+        @Override
+        public void publish(LogRecord record) {
+            characters += record.getMessage().length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
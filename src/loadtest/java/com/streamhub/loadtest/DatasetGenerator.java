@@ -0,0 +1,355 @@
+package com.streamhub.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+/**
+ * Seeds the benchmark database with synthetic, reproducible data: the same seed and volumes always give the
+ * same rows. Popularity is skewed the way production traffic is: a few genres, languages and titles get most of
+ * the content and views (Zipf), most users are active, and recent rows outnumber old ones.
+ */
+final class DatasetGenerator {
+
+    private static final Logger logger = Logger.getLogger(DatasetGenerator.class.getName());
+
+    static final String[] GENRES = {"Drama", "Comedy", "Action", "Thriller", "Documentary", "Romance", "Sci-Fi",
+        "Horror", "Animation", "Crime", "Fantasy", "Family", "Mystery", "Adventure", "Biography", "History",
+        "Music", "Sport", "War", "Western"};
+    static final String[] LANGUAGES = {"English", "Spanish", "Hindi", "French", "German", "Japanese", "Korean",
+        "Portuguese", "Italian", "Mandarin", "Turkish", "Arabic"};
+    static final String[] RATINGS = {"G", "PG", "PG-13", "R", "TV-14", "TV-MA"};
+    static final String[] CONTENT_TYPES = {"VIDEO", "AUDIO", "EBOOK"};
+    static final String[] TITLE_WORDS = {"midnight", "river", "empire", "shadow", "last", "summer", "city", "lost",
+        "garden", "storm", "silent", "king", "ocean", "broken", "golden", "secret", "winter", "fire", "house", "road",
+        "star", "dream", "hidden", "wild", "north", "glass", "iron", "blue", "night", "heart", "stone", "light",
+        "mountain", "island", "ghost", "echo", "crown", "desert", "harbor", "forest", "machine", "orchard",
+        "paper", "signal", "thunder", "velvet", "whisper", "zero", "atlas", "borderline"};
+
+    private static final int BATCH_SIZE = 5000;
+    private static final long HASH_MULTIPLIER = 2654435761L;
+
+    private static final String[] PLAN_NAMES = {"Basic Monthly", "Standard Monthly", "Premium Monthly", "Premium Annual"};
+    private static final BigDecimal[] PLAN_PRICES = {new BigDecimal("9.99"), new BigDecimal("14.99"),
+        new BigDecimal("19.99"), new BigDecimal("149.99")};
+    private static final int[] PLAN_DAYS = {30, 30, 30, 365};
+    private static final int[] PLAN_WEIGHTS = {50, 30, 15, 5};
+
+    private static final String[] USER_AGENTS = {
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 Chrome/124.0 Safari/537.36",
+        "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_4) AppleWebKit/605.1.15 Version/17.4 Safari/605.1.15",
+        "Mozilla/5.0 (iPhone; CPU iPhone OS 17_4 like Mac OS X) AppleWebKit/605.1.15 Mobile/15E148",
+        "Mozilla/5.0 (Linux; Android 14; Pixel 8) AppleWebKit/537.36 Chrome/124.0 Mobile Safari/537.36",
+        "StreamHubTV/3.2 (Tizen 7.0; Samsung)",
+        "StreamHubTV/3.2 (webOS 23; LG)"};
+
+    private final Connection connection;
+    private final Volumes volumes;
+    private final SplittableRandom random;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    DatasetGenerator(Connection connection, Volumes volumes, long seed) {
+        this.connection = connection;
+        this.volumes = volumes;
+        this.random = new SplittableRandom(seed);
+    }
+
+    void generate() throws SQLException {
+        connection.setAutoCommit(false);
+        insertReferenceData();
+        insertContent();
+        insertUsers();
+        insertSubscriptions();
+        insertPayments();
+        insertAccessLog();
+        // Rows were inserted with explicit ids, so move the identity columns past them for rows the API creates
+        restartIdentity("content", volumes.content() + 1);
+        restartIdentity("app_user", volumes.users() + 1);
+        restartIdentity("subscription", volumes.users() + 1);
+    }
+
+    /**
+     * Rank-to-id permutation, so the most popular rows are spread over the id space rather than being the oldest
+     */
+    static long scatter(int rank, long count) {
+        return (rank - 1L) * HASH_MULTIPLIER % count + 1;
+    }
+
+    private void insertReferenceData() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO role (role_name, description, created_by) VALUES "
+                + "('ADMIN', 'Full system access', 'SYSTEM'), ('SUBSCRIBER', 'End user with streaming access', 'SYSTEM')");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO subscription_plan (plan_name, price, duration_days, is_active, created_by) VALUES (?, ?, ?, TRUE, 'SYSTEM')")) {
+            for (int i = 0; i < PLAN_NAMES.length; i++) {
+                insert.setString(1, PLAN_NAMES[i]);
+                insert.setBigDecimal(2, PLAN_PRICES[i]);
+                insert.setInt(3, PLAN_DAYS[i]);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertContent() throws SQLException {
+        ZipfSampler genres = new ZipfSampler(GENRES.length, 1.0);
+        ZipfSampler languages = new ZipfSampler(LANGUAGES.length, 1.2);
+        ZipfSampler words = new ZipfSampler(TITLE_WORDS.length, 0.9);
+        Progress progress = new Progress("content", volumes.content());
+        try (PreparedStatement content = connection.prepareStatement(
+                "INSERT INTO content (id, title, description, content_type, genre, language, rating, thumbnail_url, "
+                    + "duration, status, version_id, created_at, updated_at, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, ?, ?, 'loadtest')");
+             PreparedStatement video = connection.prepareStatement(
+                "INSERT INTO video_metadata (content_id, duration, stream_url, created_at) VALUES (?, ?, ?, ?)")) {
+            for (long id = 1; id <= volumes.content(); id++) {
+                String genre = GENRES[genres.sample(random) - 1];
+                String type = pick(CONTENT_TYPES, 70, 20, 10);
+                LocalDateTime createdAt = recent(5 * 365, 2.0);
+                int duration = 5 + random.nextInt(175);
+                StringBuilder title = new StringBuilder();
+                int titleWords = 1 + random.nextInt(3);
+                for (int w = 0; w < titleWords; w++) {
+                    String word = TITLE_WORDS[words.sample(random) - 1];
+                    title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length()).append(' ');
+                }
+                title.append(id);
+
+                content.setLong(1, id);
+                content.setString(2, title.toString());
+                content.setString(3, "A " + genre.toLowerCase() + " title about " + TITLE_WORDS[words.sample(random) - 1]
+                    + " and " + TITLE_WORDS[words.sample(random) - 1] + ", generated for load testing.");
+                content.setString(4, type);
+                content.setString(5, genre);
+                content.setString(6, LANGUAGES[languages.sample(random) - 1]);
+                content.setString(7, RATINGS[random.nextInt(RATINGS.length)]);
+                content.setString(8, "https://cdn.streamhub.example/thumbnails/" + id + ".jpg");
+                content.setInt(9, duration);
+                content.setString(10, pick(new String[] {"ACTIVE", "ARCHIVED", "DRAFT"}, 90, 7, 3));
+                content.setObject(11, createdAt);
+                content.setObject(12, createdAt);
+                content.addBatch();
+
+                if ("VIDEO".equals(type)) {
+                    video.setLong(1, id);
+                    video.setInt(2, duration * 60);
+                    video.setString(3, "https://stream.streamhub.example/hls/" + id + "/master.m3u8");
+                    video.setObject(4, createdAt);
+                    video.addBatch();
+                }
+                if (id % BATCH_SIZE == 0 || id == volumes.content()) {
+                    content.executeBatch();
+                    video.executeBatch();
+                    connection.commit();
+                    progress.update(id);
+                }
+            }
+        }
+    }
+
+    private void insertUsers() throws SQLException {
+        Progress progress = new Progress("app_user", volumes.users());
+        try (PreparedStatement user = connection.prepareStatement(
+                "INSERT INTO app_user (id, username, email, password_hash, status, created_at, updated_at, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 'loadtest')");
+             PreparedStatement role = connection.prepareStatement(
+                "INSERT INTO user_role (user_id, role_id) VALUES (?, 2)")) {
+            for (long id = 1; id <= volumes.users(); id++) {
+                LocalDateTime createdAt = recent(3 * 365, 1.5);
+                user.setLong(1, id);
+                user.setString(2, "user_" + id);
+                user.setString(3, "user_" + id + "@loadtest.streamhub.example");
+                user.setString(4, "$2y$12$loadtestloadtestloadtestloadtestloadtestloadtes");
+                user.setString(5, pick(new String[] {"ACTIVE", "PENDING", "SUSPENDED", "DELETED"}, 92, 3, 3, 2));
+                user.setObject(6, createdAt);
+                user.setObject(7, createdAt);
+                user.addBatch();
+                role.setLong(1, id);
+                role.addBatch();
+                if (id % BATCH_SIZE == 0 || id == volumes.users()) {
+                    user.executeBatch();
+                    role.executeBatch();
+                    connection.commit();
+                    progress.update(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * One subscription per user, subscription id = user id
+     */
+    private void insertSubscriptions() throws SQLException {
+        Progress progress = new Progress("subscription", volumes.users());
+        LocalDate today = now.toLocalDate();
+        try (PreparedStatement subscription = connection.prepareStatement(
+                "INSERT INTO subscription (id, user_id, plan_id, start_date, end_date, status, created_at, updated_at, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'loadtest')")) {
+            for (long id = 1; id <= volumes.users(); id++) {
+                int plan = planOf(id);
+                String status = pick(new String[] {"ACTIVE", "EXPIRED", "CANCELLED", "PAST_DUE"}, 70, 20, 6, 4);
+                LocalDate start = "ACTIVE".equals(status)
+                    ? today.minusDays(random.nextInt(PLAN_DAYS[plan]))
+                    : today.minusDays(PLAN_DAYS[plan] + random.nextInt(720));
+                subscription.setLong(1, id);
+                subscription.setLong(2, id);
+                subscription.setLong(3, plan + 1);
+                subscription.setObject(4, start);
+                subscription.setObject(5, start.plusDays(PLAN_DAYS[plan]));
+                subscription.setString(6, status);
+                subscription.setObject(7, start.atStartOfDay());
+                subscription.setObject(8, start.atStartOfDay());
+                subscription.addBatch();
+                if (id % BATCH_SIZE == 0 || id == volumes.users()) {
+                    subscription.executeBatch();
+                    connection.commit();
+                    progress.update(id);
+                }
+            }
+        }
+    }
+
+    private void insertPayments() throws SQLException {
+        ZipfSampler payers = new ZipfSampler((int) volumes.users(), 0.6);
+        Progress progress = new Progress("payment_transaction", volumes.payments());
+        try (PreparedStatement payment = connection.prepareStatement(
+                "INSERT INTO payment_transaction (subscription_id, user_id, amount, currency, payment_method, "
+                    + "transaction_status, gateway_reference, error_message, created_at, created_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'loadtest')")) {
+            for (long n = 1; n <= volumes.payments(); n++) {
+                long subscriptionId = scatter(payers.sample(random), volumes.users());
+                String status = pick(new String[] {"SUCCESS", "FAILED", "REFUNDED", "PENDING"}, 90, 6, 2, 2);
+                payment.setLong(1, subscriptionId);
+                payment.setLong(2, subscriptionId);
+                payment.setBigDecimal(3, PLAN_PRICES[planOf(subscriptionId)]);
+                payment.setString(4, pick(new String[] {"USD", "EUR", "GBP"}, 70, 20, 10));
+                payment.setString(5, pick(new String[] {"CREDIT_CARD", "PAYPAL", "STRIPE", "APPLE_PAY"}, 55, 20, 15, 10));
+                payment.setString(6, status);
+                payment.setString(7, "TXN_" + Long.toHexString(random.nextLong()));
+                payment.setString(8, "FAILED".equals(status) ? "Card declined" : null);
+                payment.setObject(9, recent(2 * 365, 1.0));
+                payment.addBatch();
+                if (n % BATCH_SIZE == 0 || n == volumes.payments()) {
+                    payment.executeBatch();
+                    connection.commit();
+                    progress.update(n);
+                }
+            }
+        }
+    }
+
+    private void insertAccessLog() throws SQLException {
+        ZipfSampler titles = new ZipfSampler((int) volumes.content(), 1.07);
+        ZipfSampler viewers = new ZipfSampler((int) volumes.users(), 0.8);
+        Progress progress = new Progress("access_control_log", volumes.accessLogs());
+        try (PreparedStatement access = connection.prepareStatement(
+                "INSERT INTO access_control_log (content_id, user_id, access_status, ip_address, user_agent, timestamp) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long n = 1; n <= volumes.accessLogs(); n++) {
+                long userId = scatter(viewers.sample(random), volumes.users());
+                access.setLong(1, scatter(titles.sample(random), volumes.content()));
+                access.setLong(2, userId);
+                access.setString(3, pick(new String[] {"GRANTED", "DENIED_NO_SUBSCRIPTION", "DENIED_DRM_VIOLATION"}, 94, 5, 1));
+                access.setString(4, "10." + (userId >>> 16 & 0xFF) + "." + (userId >>> 8 & 0xFF) + "." + (userId & 0xFF));
+                access.setString(5, USER_AGENTS[(int) (userId % USER_AGENTS.length)]);
+                access.setObject(6, recent(90, 3.0));
+                access.addBatch();
+                if (n % BATCH_SIZE == 0 || n == volumes.accessLogs()) {
+                    access.executeBatch();
+                    connection.commit();
+                    progress.update(n);
+                }
+            }
+        }
+    }
+
+    private void restartIdentity(String table, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+        connection.commit();
+    }
+
+    /**
+     * Plan of a subscription, fixed per id so payments agree with the subscription row
+     */
+    private static int planOf(long subscriptionId) {
+        long mixed = subscriptionId * 0x9E3779B97F4A7C15L;
+        mixed ^= mixed >>> 31;
+        int roll = (int) Math.floorMod(mixed, 100L);
+        int bound = 0;
+        for (int i = 0; i < PLAN_WEIGHTS.length; i++) {
+            bound += PLAN_WEIGHTS[i];
+            if (roll < bound) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A time within the last maxDays days; higher skew puts more rows close to now
+     */
+    private LocalDateTime recent(int maxDays, double skew) {
+        long seconds = (long) (Math.pow(random.nextDouble(), skew) * maxDays * 86_400L);
+        return now.minusSeconds(seconds);
+    }
+
+    private String pick(String[] values, int... weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[0];
+    }
+
+    /**
+     * Row counts to generate; subscriptions follow users one to one
+     */
+    record Volumes(long content, long users, long accessLogs, long payments) {
+
+        static Volumes scaled(double scale) {
+            return new Volumes(Math.max(1000, Math.round(1_000_000 * scale)), Math.max(500, Math.round(500_000 * scale)),
+                Math.max(1000, Math.round(50_000_000 * scale)), Math.max(1000, Math.round(50_000_000 * scale)));
+        }
+    }
+
+    private static final class Progress {
+
+        private final String table;
+        private final long total;
+        private final long started = System.nanoTime();
+        private long nextReport;
+
+        Progress(String table, long total) {
+            this.table = table;
+            this.total = total;
+            this.nextReport = Math.max(BATCH_SIZE, total / 20);
+        }
+
+        void update(long done) {
+            if (done < nextReport && done < total) {
+                return;
+            }
+            nextReport += Math.max(BATCH_SIZE, total / 20);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            logger.info(table + ": " + done + "/" + total + " rows, " + Math.round(done / Math.max(seconds, 0.001))
+                + " rows/s");
+        }
+    }
+}
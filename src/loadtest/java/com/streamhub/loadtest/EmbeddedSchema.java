@@ -0,0 +1,75 @@
+package com.streamhub.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Creates the application tables in the embedded H2 database (MySQL mode) from the production schema.sql,
+ * so the benchmark schema cannot drift from the real one. Only CREATE TABLE statements are run, with the
+ * clauses H2 does not accept removed: FULLTEXT indexes and the access_control_log partitioning.
+ * MySQL index names are per table and H2's are per schema, so inline indexes are prefixed with their table.
+ */
+final class EmbeddedSchema {
+
+    private static final String SCHEMA_RESOURCE = "/schema.sql";
+    private static final Pattern TABLE_NAME = Pattern.compile("CREATE TABLE IF NOT EXISTS (\\w+)");
+    private static final Pattern INLINE_INDEX = Pattern.compile("(?m)^(\\s*)INDEX (\\w+) \\(");
+    private static final Pattern FULLTEXT_INDEX = Pattern.compile("(?m)^\\s*FULLTEXT INDEX .*\\R");
+    private static final Pattern PARTITIONING = Pattern.compile("(?s)\\)\\s*(ENGINE=[^\\n]*?)\\s*PARTITION BY .*$");
+
+    private EmbeddedSchema() {
+    }
+
+    static void create(Connection connection) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : createTableStatements()) {
+                statement.execute(table);
+            }
+        }
+        connection.commit();
+    }
+
+    static List<String> createTableStatements() throws IOException {
+        String script;
+        try (InputStream in = EmbeddedSchema.class.getResourceAsStream(SCHEMA_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("schema.sql not found on the classpath");
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String raw : stripComments(script).split(";")) {
+            String sql = raw.trim();
+            Matcher table = TABLE_NAME.matcher(sql);
+            if (!sql.startsWith("CREATE TABLE") || !table.find()) {
+                continue;
+            }
+            String name = table.group(1);
+            sql = FULLTEXT_INDEX.matcher(sql).replaceAll("");
+            sql = INLINE_INDEX.matcher(sql).replaceAll("$1INDEX " + name + "_$2 (");
+            sql = PARTITIONING.matcher(sql).replaceAll(") $1");
+            statements.add(sql);
+        }
+        return statements;
+    }
+
+    private static String stripComments(String script) {
+        String withoutBlocks = script.replaceAll("(?s)/\\*.*?\\*/", "");
+        StringBuilder out = new StringBuilder(withoutBlocks.length());
+        for (String line : withoutBlocks.split("\\R")) {
+            if (!line.trim().startsWith("--")) {
+                out.append(line).append('\n');
+            }
+        }
+        return out.toString();
+    }
+}
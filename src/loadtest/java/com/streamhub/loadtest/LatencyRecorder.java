@@ -0,0 +1,75 @@
+package com.streamhub.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and response statuses of one operation as seen by one client thread.
+ * Samples are kept raw so percentiles are exact; recorders are merged once the run is over.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int size;
+    private long errors;
+    private final Map<String, Long> statuses = new TreeMap<>();
+
+    void record(long nanos, int status) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (status == 0 || status >= 400) {
+            errors++;
+        }
+        statuses.merge(status == 0 ? "failed" : Integer.toString(status), 1L, Long::sum);
+    }
+
+    static LoadReport.OperationSummary summarize(String operation, List<LatencyRecorder> recorders, double seconds) {
+        int total = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+        }
+        long[] merged = new long[total];
+        long errors = 0;
+        Map<String, Long> statuses = new TreeMap<>();
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+            errors += recorder.errors;
+            recorder.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        Arrays.sort(merged);
+
+        double sum = 0;
+        for (long sample : merged) {
+            sum += sample;
+        }
+        return new LoadReport.OperationSummary(operation, total, errors, round(total / seconds),
+            total == 0 ? 0 : millis(sum / total), millis(percentile(merged, 0.50)), millis(percentile(merged, 0.90)),
+            millis(percentile(merged, 0.99)), millis(percentile(merged, 0.999)),
+            total == 0 ? 0 : millis(merged[total - 1]), statuses);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples
+     */
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(double nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
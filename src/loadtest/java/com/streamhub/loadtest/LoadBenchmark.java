@@ -0,0 +1,243 @@
+package com.streamhub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.streamhub.StreamHubApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * End-to-end load benchmark: generates (or reuses) a synthetic production-sized dataset in an embedded H2
+ * database running in MySQL mode, boots the full application against it on a random port, drives the
+ * ContentController endpoints with concurrent clients and writes a JSON latency/throughput report.
+ *
+ * Options (all --name=value): scale (1.0 = 1M content, 500k users, 50M access logs and payments), clients,
+ * warmup-seconds, duration-seconds, seed, db-dir, regenerate, label, report-dir, ready-timeout-seconds.
+ * With --compare=base.json,head.json it only prints the difference between two earlier reports.
+ * Application properties can be overridden with -D system properties.
+ */
+public final class LoadBenchmark {
+
+    private static final Logger logger = Logger.getLogger(LoadBenchmark.class.getName());
+
+    private LoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        if (options.containsKey("compare")) {
+            String[] files = options.get("compare").split(",");
+            if (files.length != 2) {
+                throw new IllegalArgumentException("--compare expects base.json,head.json");
+            }
+            LoadReport.compare(LoadReport.read(Paths.get(files[0])), LoadReport.read(Paths.get(files[1])), System.out);
+            return;
+        }
+
+        double scale = Double.parseDouble(options.getOrDefault("scale", "1.0"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "32"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup-seconds", "30"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration-seconds", "120"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Path dbDir = Paths.get(options.getOrDefault("db-dir", "target/loadtest/db")).toAbsolutePath();
+        boolean regenerate = Boolean.parseBoolean(options.getOrDefault("regenerate", "false"));
+        String commit = gitCommit();
+        String label = options.getOrDefault("label", commit);
+        Path reportDir = Paths.get(options.getOrDefault("report-dir", "target/loadtest/reports"));
+        Duration readyTimeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("ready-timeout-seconds", "1800")));
+
+        DatasetGenerator.Volumes requested = DatasetGenerator.Volumes.scaled(scale);
+        String jdbcUrl = "jdbc:h2:file:" + dbDir.resolve("streamhub")
+            + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE"
+            + ";CACHE_SIZE=262144";
+        DatasetGenerator.Volumes volumes = prepareDataset(jdbcUrl, dbDir, requested, seed, regenerate);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(StreamHubApplication.class)
+            .properties(applicationProperties(jdbcUrl, dbDir.getParent()))
+            .run();
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String baseUrl = "http://localhost:" + port + "/api/v1";
+            awaitReady(baseUrl, readyTimeout);
+
+            Workload workload = new Workload(baseUrl, volumes.content(), LoadReport.JSON);
+            LoadDriver.Result result = new LoadDriver(workload, clients, seed)
+                .run(Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds));
+
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("scale", scale);
+            settings.put("clients", clients);
+            settings.put("warmupSeconds", warmupSeconds);
+            settings.put("durationSeconds", durationSeconds);
+            settings.put("seed", seed);
+            LoadReport report = new LoadReport(label, commit, Instant.now().toString(), settings, volumes,
+                result.total(), result.operations());
+            report.print(System.out);
+            logger.info("Report written to " + report.write(reportDir));
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Reuse the dataset in db-dir when it was generated with the same volumes and seed, otherwise build it
+     */
+    private static DatasetGenerator.Volumes prepareDataset(String jdbcUrl, Path dbDir, DatasetGenerator.Volumes volumes,
+                                                           long seed, boolean regenerate) throws SQLException, IOException {
+        Path file = dbDir.resolve("streamhub.mv.db");
+        if (!regenerate && Files.exists(file)) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+                DatasetGenerator.Volumes existing = readDatasetMarker(connection, seed);
+                if (volumes.equals(existing)) {
+                    logger.info("Reusing dataset in " + dbDir + ": " + existing);
+                    return existing;
+                }
+            }
+            logger.info("Dataset in " + dbDir + " does not match " + volumes + " / seed " + seed + "; regenerating");
+        }
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dbDir.resolve("streamhub.trace.db"));
+        Files.createDirectories(dbDir);
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+            connection.setAutoCommit(false);
+            EmbeddedSchema.create(connection);
+            new DatasetGenerator(connection, volumes, seed).generate();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE loadtest_dataset (seed BIGINT, content BIGINT, users BIGINT, "
+                    + "access_logs BIGINT, payments BIGINT)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO loadtest_dataset VALUES (?, ?, ?, ?, ?)")) {
+                insert.setLong(1, seed);
+                insert.setLong(2, volumes.content());
+                insert.setLong(3, volumes.users());
+                insert.setLong(4, volumes.accessLogs());
+                insert.setLong(5, volumes.payments());
+                insert.executeUpdate();
+            }
+            connection.commit();
+            // Compact once so the measured runs do not pay for the bulk load's page churn
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN COMPACT");
+            }
+        }
+        return volumes;
+    }
+
+    private static DatasetGenerator.Volumes readDatasetMarker(Connection connection, long seed) {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                 "SELECT seed, content, users, access_logs, payments FROM loadtest_dataset")) {
+            if (rs.next() && rs.getLong(1) == seed) {
+                return new DatasetGenerator.Volumes(rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5));
+            }
+        } catch (SQLException e) {
+            logger.warning("No usable dataset marker: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private static Map<String, Object> applicationProperties(String jdbcUrl, Path workDir) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        // The schema is created from schema.sql by EmbeddedSchema; Spring would otherwise run it again on H2
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.com.streamhub", "WARN");
+        properties.put("server.port", "0");
+        // MySQL-only maintenance and batch jobs stay off so they do not skew the measured window
+        properties.put("streamhub.access-log.partitioning.enabled", "false");
+        properties.put("streamhub.subscriptions.renewal.enabled", "false");
+        properties.put("streamhub.revenue.rollup.backfill-on-startup", "false");
+        properties.put("streamhub.audit.spool.directory", workDir.resolve("spool/audit").toString());
+        properties.put("streamhub.access-log.archive.directory", workDir.resolve("archive").toString());
+        return properties;
+    }
+
+    /**
+     * Wait until the in-memory search and facet indexes are built and the trending tracker is seeded,
+     * so the measured window does not include startup work
+     */
+    private static void awaitReady(String baseUrl, Duration timeout) throws InterruptedException {
+        HttpClient http = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!(isTrue(http, baseUrl + "/stats/search", "ready")
+            && isTrue(http, baseUrl + "/stats/facets", "ready")
+            && isTrue(http, baseUrl + "/stats/trending", "seeded"))) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Application not ready after " + timeout.toSeconds() + "s");
+            }
+            Thread.sleep(2000);
+        }
+        logger.info("Application ready");
+    }
+
+    private static boolean isTrue(HttpClient http, String url, String field) throws InterruptedException {
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            JsonNode json = LoadReport.JSON.readTree(response.body());
+            return json.path(field).asBoolean(false);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 && !output.isEmpty() ? output : "unknown";
+        } catch (IOException | InterruptedException e) {
+            return "unknown";
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+}
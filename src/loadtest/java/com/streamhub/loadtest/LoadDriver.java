@@ -0,0 +1,110 @@
+package com.streamhub.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+/**
+ * Closed-loop load: each client thread sends one request, waits for the full response and sends the next.
+ * Requests completed during the warmup are not recorded; latency covers sending the request and reading the
+ * whole body.
+ */
+final class LoadDriver {
+
+    private static final Logger logger = Logger.getLogger(LoadDriver.class.getName());
+
+    private final Workload workload;
+    private final int clients;
+    private final long seed;
+
+    LoadDriver(Workload workload, int clients, long seed) {
+        this.workload = workload;
+        this.clients = clients;
+        this.seed = seed;
+    }
+
+    Result run(Duration warmup, Duration measured) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        Workload.Operation[] operations = Workload.Operation.values();
+        LatencyRecorder[][] recorders = new LatencyRecorder[clients][operations.length];
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long deadline = measureFrom + measured.toNanos();
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            LatencyRecorder[] own = recorders[c];
+            for (int o = 0; o < operations.length; o++) {
+                own[o] = new LatencyRecorder();
+            }
+            Workload.ClientState client = new Workload.ClientState(c, seeds.split());
+            Thread thread = new Thread(() -> drive(http, client, own, measureFrom, deadline), "loadtest-client-" + c);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        logger.info("Running " + clients + " clients: " + warmup.toSeconds() + "s warmup, "
+            + measured.toSeconds() + "s measured");
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        List<LoadReport.OperationSummary> summaries = new ArrayList<>();
+        List<LatencyRecorder> all = new ArrayList<>();
+        for (Workload.Operation operation : operations) {
+            List<LatencyRecorder> parts = new ArrayList<>(clients);
+            for (LatencyRecorder[] own : recorders) {
+                parts.add(own[operation.ordinal()]);
+            }
+            all.addAll(parts);
+            summaries.add(LatencyRecorder.summarize(operation.label(), parts, seconds));
+        }
+        return new Result(LatencyRecorder.summarize("total", all, seconds), summaries);
+    }
+
+    record Result(LoadReport.OperationSummary total, List<LoadReport.OperationSummary> operations) {
+    }
+
+    private void drive(HttpClient http, Workload.ClientState client, LatencyRecorder[] recorders,
+                       long measureFrom, long deadline) {
+        while (true) {
+            Workload.Operation operation = workload.next(client);
+            HttpRequest request = workload.request(operation, client);
+            long sent = System.nanoTime();
+            if (sent >= deadline) {
+                return;
+            }
+            int status = 0;
+            String body = null;
+            try {
+                if (Workload.needsBody(operation)) {
+                    HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                    status = response.statusCode();
+                    body = response.body();
+                } else {
+                    status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.fine("Request " + request.uri() + " failed: " + e.getMessage());
+            }
+            long elapsed = System.nanoTime() - sent;
+            if (sent >= measureFrom) {
+                recorders[operation.ordinal()].record(elapsed, status);
+            }
+            workload.onResponse(operation, client, status, body);
+        }
+    }
+}
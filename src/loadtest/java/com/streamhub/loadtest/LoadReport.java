@@ -0,0 +1,90 @@
+package com.streamhub.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of one load run, written as JSON so two runs (e.g. before and after a commit) can be compared with
+ * {@link #compare}. Latencies are in milliseconds.
+ */
+record LoadReport(String label, String commit, String startedAt, Map<String, Object> settings,
+                  DatasetGenerator.Volumes dataset, OperationSummary total, List<OperationSummary> operations) {
+
+    record OperationSummary(String operation, long requests, long errors, double throughput, double meanMs,
+                            double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs,
+                            Map<String, Long> statuses) {
+    }
+
+    static final ObjectMapper JSON = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("report-" + label.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+        JSON.writeValue(file.toFile(), this);
+        return file;
+    }
+
+    static LoadReport read(Path file) throws IOException {
+        return JSON.readValue(file.toFile(), LoadReport.class);
+    }
+
+    void print(PrintStream out) {
+        out.println("Load report " + label + " (" + commit + "), " + settings);
+        out.printf("%-24s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "operation", "requests", "errors", "req/s", "mean", "p50", "p99", "p999", "max");
+        for (OperationSummary summary : operations) {
+            printRow(out, summary);
+        }
+        printRow(out, total);
+    }
+
+    private static void printRow(PrintStream out, OperationSummary s) {
+        out.printf("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            s.operation(), s.requests(), s.errors(), s.throughput(), s.meanMs(), s.p50Ms(), s.p99Ms(), s.p999Ms(),
+            s.maxMs());
+    }
+
+    /**
+     * Side-by-side throughput and tail latency of two runs, with the relative change of head against base
+     */
+    static void compare(LoadReport base, LoadReport head, PrintStream out) {
+        out.println("Comparing " + base.label() + " (" + base.commit() + ") -> " + head.label() + " (" + head.commit() + ")");
+        if (!base.settings().equals(head.settings()) || !base.dataset().equals(head.dataset())) {
+            out.println("Warning: runs used different settings or datasets");
+        }
+        out.printf("%-24s %22s %22s %22s %22s%n", "operation", "req/s", "p50", "p99", "p999");
+        Map<String, OperationSummary> baseline = new LinkedHashMap<>();
+        base.operations().forEach(summary -> baseline.put(summary.operation(), summary));
+        baseline.put(base.total().operation(), base.total());
+        for (OperationSummary current : head.operations()) {
+            compareRow(out, baseline.get(current.operation()), current);
+        }
+        compareRow(out, baseline.get(head.total().operation()), head.total());
+    }
+
+    private static void compareRow(PrintStream out, OperationSummary before, OperationSummary after) {
+        if (before == null) {
+            out.printf("%-24s (not in base run)%n", after.operation());
+            return;
+        }
+        out.printf("%-24s %22s %22s %22s %22s%n", after.operation(),
+            change(before.throughput(), after.throughput()), change(before.p50Ms(), after.p50Ms()),
+            change(before.p99Ms(), after.p99Ms()), change(before.p999Ms(), after.p999Ms()));
+    }
+
+    private static String change(double before, double after) {
+        String delta = before == 0 ? "n/a" : String.format("%+.1f%%", (after - before) * 100.0 / before);
+        return String.format("%.1f -> %.1f %s", before, after, delta);
+    }
+}
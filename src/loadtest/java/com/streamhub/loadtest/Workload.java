@@ -0,0 +1,280 @@
+package com.streamhub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Request mix covering every ContentController endpoint, weighted roughly like catalog traffic: mostly
+ * listings and single-item reads with a skewed choice of pages, ids, genres and keywords, plus a small share of
+ * writes. Writes only touch content the same client created, so clients never conflict with each other.
+ * Ranked full-text search (mode=fulltext/boolean) needs MySQL FULLTEXT indexes and is not part of the mix.
+ */
+final class Workload {
+
+    enum Operation {
+        CATALOG_PAGE("catalog.page", 16),
+        CATALOG_COMPACT("catalog.compact", 5),
+        CATALOG_STREAM("catalog.include-stream", 5),
+        CATALOG_CURSOR("catalog.cursor", 4),
+        CATALOG_FACETS("catalog.facets", 8),
+        CATALOG_TRENDING("catalog.trending", 4),
+        CATALOG_EXPORT("catalog.export", 1),
+        CONTENT_GET("content.get", 20),
+        CONTENT_BY_TYPE("content.type", 4),
+        CONTENT_BY_GENRE("content.genre", 4),
+        SEARCH_INDEX("search.index", 8),
+        SEARCH_LIKE("search.like", 2),
+        STATS("stats", 2),
+        CONTENT_CREATE("content.create", 2),
+        CONTENT_PATCH("content.patch", 2),
+        CONTENT_PUT("content.put", 1),
+        CONTENT_DELETE("content.delete", 1),
+        CONTENT_BULK("content.bulk", 1);
+
+        private final String label;
+        private final int weight;
+
+        Operation(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        String label() {
+            return label;
+        }
+
+        private boolean editsOwnContent() {
+            return this == CONTENT_PATCH || this == CONTENT_PUT || this == CONTENT_DELETE;
+        }
+    }
+
+    private static final String[] STATS_PATHS = {"/stats", "/stats/cache", "/stats/search", "/stats/facets", "/stats/trending"};
+    private static final String[] WINDOWS = {"1h", "24h", "7d"};
+    private static final int[] PAGE_SIZES = {10, 20, 50};
+
+    private final String baseUrl;
+    private final long contentCount;
+    private final ObjectMapper objectMapper;
+    private final ZipfSampler popularity;
+    private final ZipfSampler pages;
+    private final ZipfSampler genres = new ZipfSampler(DatasetGenerator.GENRES.length, 1.0);
+    private final ZipfSampler languages = new ZipfSampler(DatasetGenerator.LANGUAGES.length, 1.2);
+    private final ZipfSampler keywords = new ZipfSampler(DatasetGenerator.TITLE_WORDS.length, 0.9);
+    private final int totalWeight;
+
+    Workload(String baseUrl, long contentCount, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.contentCount = contentCount;
+        this.objectMapper = objectMapper;
+        this.popularity = new ZipfSampler((int) Math.min(contentCount, Integer.MAX_VALUE), 1.07);
+        this.pages = new ZipfSampler(50, 1.2);
+        int weights = 0;
+        for (Operation operation : Operation.values()) {
+            weights += operation.weight;
+        }
+        this.totalWeight = weights;
+    }
+
+    /**
+     * Pick the next operation; edits and deletes become a create while the client owns no content yet
+     */
+    Operation next(ClientState client) {
+        int roll = client.random.nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation.editsOwnContent() && client.owned.isEmpty() ? Operation.CONTENT_CREATE : operation;
+            }
+        }
+        return Operation.CATALOG_PAGE;
+    }
+
+    HttpRequest request(Operation operation, ClientState client) {
+        SplittableRandom random = client.random;
+        return switch (operation) {
+            case CATALOG_PAGE -> get("/catalog?page=" + page(random) + "&pageSize=" + pageSize(random));
+            case CATALOG_COMPACT -> get("/catalog?view=compact&page=" + page(random) + "&pageSize=" + pageSize(random));
+            case CATALOG_STREAM -> get("/catalog?include=stream&page=" + page(random) + "&pageSize=" + pageSize(random));
+            case CATALOG_CURSOR -> get("/catalog?after=&sortBy=createdAt&pageSize=" + pageSize(random));
+            case CATALOG_FACETS -> get("/catalog/facets?genre=" + encode(genre(random))
+                + (random.nextBoolean() ? "&language=" + encode(language(random)) : "")
+                + "&page=" + (pages.sample(random) - 1) % 10 + "&pageSize=20");
+            case CATALOG_TRENDING -> get("/catalog/trending?window=" + WINDOWS[random.nextInt(WINDOWS.length)]
+                + "&limit=" + (random.nextBoolean() ? 10 : 50));
+            case CATALOG_EXPORT -> get("/catalog/export?type=EBOOK&status=DRAFT&genre="
+                + encode(DatasetGenerator.GENRES[DatasetGenerator.GENRES.length - 1 - random.nextInt(3)]) + "&gzip=true");
+            case CONTENT_GET -> get("/content/" + DatasetGenerator.scatter(popularity.sample(random), contentCount));
+            case CONTENT_BY_TYPE -> get("/content/type/" + DatasetGenerator.CONTENT_TYPES[random.nextInt(3)]
+                + "?page=" + page(random) + "&pageSize=" + pageSize(random));
+            case CONTENT_BY_GENRE -> get("/content/genre/" + encode(genre(random))
+                + "?page=" + page(random) + "&pageSize=" + pageSize(random));
+            case SEARCH_INDEX -> get("/search?keyword=" + keyword(random) + "&page=" + (pages.sample(random) - 1) % 5);
+            case SEARCH_LIKE -> get("/search?mode=like&keyword=" + keyword(random) + "&pageSize=20");
+            case STATS -> get(STATS_PATHS[random.nextInt(STATS_PATHS.length)]);
+            case CONTENT_CREATE -> send("POST", "/content", newContent(client));
+            case CONTENT_PATCH -> patch(client);
+            case CONTENT_PUT -> put(client);
+            case CONTENT_DELETE -> send("DELETE", "/content/" + client.owned.peekFirst().id, null);
+            case CONTENT_BULK -> {
+                List<Map<String, Object>> rows = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    rows.add(newContent(client));
+                }
+                yield send("POST", "/content/bulk", rows);
+            }
+        };
+    }
+
+    /**
+     * Track the content a client created and the version it last saw
+     */
+    void onResponse(Operation operation, ClientState client, int status, String body) {
+        if (operation == Operation.CONTENT_DELETE && (status == 200 || status == 404) && !client.owned.isEmpty()) {
+            client.owned.pollFirst();
+            return;
+        }
+        if (status >= 400 || body == null || body.isEmpty()) {
+            return;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            if (json.hasNonNull("id") && json.hasNonNull("versionId")) {
+                long id = json.get("id").asLong();
+                int version = json.get("versionId").asInt();
+                if (!client.update(id, version)) {
+                    client.owned.addLast(new Owned(id, version));
+                }
+            }
+        } catch (Exception e) {
+            // Not a JSON object body; nothing to track
+        }
+    }
+
+    static boolean needsBody(Operation operation) {
+        return switch (operation) {
+            case CONTENT_CREATE, CONTENT_PATCH, CONTENT_PUT, CONTENT_DELETE -> true;
+            default -> false;
+        };
+    }
+
+    private HttpRequest patch(ClientState client) {
+        Owned target = client.owned.peekLast();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("versionId", target.version);
+        body.put("genre", genre(client.random));
+        body.put("updatedBy", "loadtest");
+        return send("PATCH", "/content/" + target.id, body);
+    }
+
+    private HttpRequest put(ClientState client) {
+        Owned target = client.owned.peekLast();
+        Map<String, Object> body = newContent(client);
+        body.put("title", "Loadtest updated " + client.id + "-" + client.sequence++);
+        return send("PUT", "/content/" + target.id, body);
+    }
+
+    private Map<String, Object> newContent(ClientState client) {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("title", "Loadtest " + client.id + "-" + client.sequence++ + "-" + client.random.nextInt(1_000_000));
+        content.put("description", "Created by the load benchmark");
+        content.put("contentType", DatasetGenerator.CONTENT_TYPES[client.random.nextInt(3)]);
+        content.put("genre", genre(client.random));
+        content.put("language", language(client.random));
+        content.put("rating", DatasetGenerator.RATINGS[client.random.nextInt(DatasetGenerator.RATINGS.length)]);
+        content.put("duration", 5 + client.random.nextInt(175));
+        content.put("status", "ACTIVE");
+        content.put("createdBy", "loadtest");
+        return content;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        try {
+            return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    private int page(SplittableRandom random) {
+        return pages.sample(random) - 1;
+    }
+
+    private static int pageSize(SplittableRandom random) {
+        return PAGE_SIZES[random.nextInt(PAGE_SIZES.length)];
+    }
+
+    private String genre(SplittableRandom random) {
+        return DatasetGenerator.GENRES[genres.sample(random) - 1];
+    }
+
+    private String language(SplittableRandom random) {
+        return DatasetGenerator.LANGUAGES[languages.sample(random) - 1];
+    }
+
+    private String keyword(SplittableRandom random) {
+        return DatasetGenerator.TITLE_WORDS[keywords.sample(random) - 1];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Per-thread client state: its random stream and the content it created
+     */
+    static final class ClientState {
+
+        private final int id;
+        private final SplittableRandom random;
+        private final Deque<Owned> owned = new ArrayDeque<>();
+        private long sequence;
+
+        ClientState(int id, SplittableRandom random) {
+            this.id = id;
+            this.random = random;
+        }
+
+        private boolean update(long id, int version) {
+            for (Owned item : owned) {
+                if (item.id == id) {
+                    item.version = version;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Owned {
+
+        private final long id;
+        private int version;
+
+        Owned(long id, int version) {
+            this.id = id;
+            this.version = version;
+        }
+    }
+}
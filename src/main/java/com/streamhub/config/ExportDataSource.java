@@ -0,0 +1,55 @@
+package com.streamhub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Small connection pool of its own for catalog exports. Its MySQL connections use server-side cursors
+ * (useCursorFetch=true, which also switches to server-side prepared statements), so only export queries
+ * stream rows in fetch-size batches while the rest of the application keeps client-side statements.
+ * The pool size caps concurrent exports, and long exports never hold connections of the main pool.
+ * Deliberately not a DataSource bean, which would turn off the auto-configured application data source.
+ */
+@Component
+public class ExportDataSource {
+
+    private final HikariDataSource pool;
+
+    public ExportDataSource(DataSourceProperties properties,
+                            @Value("${streamhub.export.datasource.url:}") String url,
+                            @Value("${streamhub.export.max-concurrent:2}") int maxConcurrent) {
+        this.pool = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url.isBlank() ? cursorFetchUrl(properties.determineUrl()) : url)
+            .build();
+        pool.setPoolName("export");
+        pool.setMaximumPoolSize(maxConcurrent);
+        pool.setMinimumIdle(0);
+    }
+
+    /**
+     * A pooled export connection; the caller closes it
+     */
+    public Connection getConnection() throws SQLException {
+        return pool.getConnection();
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.close();
+    }
+
+    private static String cursorFetchUrl(String url) {
+        // Other databases (H2 in the load benchmark) stream with the fetch size alone
+        if (url == null || !url.startsWith("jdbc:mysql:") || url.contains("useCursorFetch=")) {
+            return url;
+        }
+        return url + (url.indexOf('?') < 0 ? "?" : "&") + "useCursorFetch=true";
+    }
+}
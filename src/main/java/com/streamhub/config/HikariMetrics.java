@@ -0,0 +1,108 @@
+package com.streamhub.config;
+
+import com.streamhub.service.MetricsRegistry;
+import com.streamhub.util.Histogram;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pool metrics: Hikari reports every connection acquisition (the wait time), usage and timeout
+ * to a metrics tracker, and its pool statistics back the active, idle, pending and total gauges.
+ */
+@Configuration
+public class HikariMetrics {
+
+    private static final String[] POOL = {"pool"};
+
+    /**
+     * Installs the tracker on the Hikari data source before its pool starts, and before any other post-processor
+     * wraps the data source
+     */
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MetricsRegistry> metricsRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null
+                        && dataSource.getMetricRegistry() == null) {
+                    dataSource.setMetricsTrackerFactory(new TrackerFactory(metricsRegistry.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static final class TrackerFactory implements MetricsTrackerFactory {
+
+        private final MetricsRegistry registry;
+
+        TrackerFactory(MetricsRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats stats) {
+            String pool = StringUtils.hasText(poolName) ? poolName : "default";
+            registry.register("hikaricp_connections_active", "Connections in use", MetricsRegistry.Type.GAUGE,
+                POOL, stats::getActiveConnections, pool);
+            registry.register("hikaricp_connections_idle", "Idle connections", MetricsRegistry.Type.GAUGE,
+                POOL, stats::getIdleConnections, pool);
+            registry.register("hikaricp_connections_pending", "Threads waiting for a connection",
+                MetricsRegistry.Type.GAUGE, POOL, stats::getPendingThreads, pool);
+            registry.register("hikaricp_connections", "Open connections", MetricsRegistry.Type.GAUGE,
+                POOL, stats::getTotalConnections, pool);
+            registry.register("hikaricp_connections_max", "Maximum pool size", MetricsRegistry.Type.GAUGE,
+                POOL, stats::getMaxConnections, pool);
+            return new Tracker(registry, pool);
+        }
+    }
+
+    private static final class Tracker implements IMetricsTracker {
+
+        private final Histogram acquire;
+        private final Histogram usage;
+        private final Histogram creation;
+        private final LongAdder timeouts;
+
+        Tracker(MetricsRegistry registry, String pool) {
+            this.acquire = registry.histogram("hikaricp_connections_acquire_seconds",
+                "Time waited for a pooled connection", POOL, pool);
+            this.usage = registry.histogram("hikaricp_connections_usage_seconds",
+                "Time a connection was held before being returned", POOL, pool);
+            this.creation = registry.histogram("hikaricp_connections_creation_seconds",
+                "Time to open a new physical connection", POOL, pool);
+            this.timeouts = registry.counter("hikaricp_connections_timeout_total",
+                "Connection requests that timed out", POOL, pool);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.recordNanos(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.recordNanos(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            creation.recordNanos(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+}
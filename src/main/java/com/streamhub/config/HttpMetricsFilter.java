@@ -0,0 +1,84 @@
+package com.streamhub.config;
+
+import com.streamhub.service.MetricsRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Times every HTTP request into the http_server_requests_seconds histogram, labelled with the matched
+ * route pattern (not the raw path, which would give one series per content id) and the status.
+ * Streamed responses such as the catalog export are timed until the async response completes.
+ */
+@Component
+public class HttpMetricsFilter extends OncePerRequestFilter {
+
+    private static final String METRIC = "http_server_requests_seconds";
+    private static final String HELP = "HTTP request latency by method, route and status";
+    private static final String[] LABELS = {"method", "uri", "status"};
+
+    private final MetricsRegistry metricsRegistry;
+    private final boolean enabled;
+
+    public HttpMetricsFilter(MetricsRegistry metricsRegistry,
+                             @Value("${streamhub.metrics.http.enabled:true}") boolean enabled) {
+        this.metricsRegistry = metricsRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, response.getStatus(), start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                // An exception escaping the chain becomes a 500 after this filter has returned
+                record(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, long start) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : status == 404 ? "NOT_FOUND" : "UNKNOWN";
+        metricsRegistry.histogram(METRIC, HELP, LABELS, request.getMethod(), uri, Integer.toString(status))
+            .recordNanos(System.nanoTime() - start);
+    }
+}
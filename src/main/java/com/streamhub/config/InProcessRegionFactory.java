@@ -0,0 +1,110 @@
+package com.streamhub.config;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Hibernate second-level cache provider keeping every region in the heap of this JVM.
+ * Entity and query result regions are bounded by hibernate.cache.inprocess.&lt;region&gt;.max-entries and may expire
+ * entries after hibernate.cache.inprocess.&lt;region&gt;.ttl-seconds, falling back to the "default" settings.
+ * The update timestamps region is never bounded or expired, as dropping a timestamp would let stale query
+ * results through.
+ */
+public class InProcessRegionFactory extends RegionFactoryTemplate {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger logger = Logger.getLogger(InProcessRegionFactory.class.getName());
+
+    public static final String SETTINGS_PREFIX = "hibernate.cache.inprocess.";
+    private static final String DEFAULT_REGION = "default";
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final long DEFAULT_TTL_SECONDS = 0;
+
+    private final Map<String, InProcessStorageAccess> regions = new ConcurrentHashMap<>();
+    private Map<String, Object> settings = Map.of();
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions options, Map<String, Object> configValues) {
+        this.settings = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(InProcessStorageAccess::release);
+        regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return boundedRegion(regionConfig.getRegionName());
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return boundedRegion(regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(new InProcessStorageAccess(regionName, Integer.MAX_VALUE, 0));
+    }
+
+    /**
+     * Current size and bound of every region, for the statistics endpoint
+     */
+    public List<RegionUsage> getRegionUsage() {
+        List<RegionUsage> usage = new ArrayList<>();
+        for (InProcessStorageAccess region : regions.values()) {
+            usage.add(new RegionUsage(region.getRegionName(), region.size(), region.getMaxEntries(),
+                region.getTtlSeconds(), region.getEvictions()));
+        }
+        usage.sort((a, b) -> a.regionName().compareTo(b.regionName()));
+        return usage;
+    }
+
+    private InProcessStorageAccess boundedRegion(String regionName) {
+        int maxEntries = (int) setting(regionName, "max-entries", DEFAULT_MAX_ENTRIES);
+        long ttlSeconds = setting(regionName, "ttl-seconds", DEFAULT_TTL_SECONDS);
+        logger.info("Second-level cache region " + regionName + ": max " + maxEntries + " entries"
+            + (ttlSeconds > 0 ? ", ttl " + ttlSeconds + "s" : ""));
+        return register(new InProcessStorageAccess(regionName, maxEntries, TimeUnit.SECONDS.toNanos(ttlSeconds)));
+    }
+
+    private InProcessStorageAccess register(InProcessStorageAccess region) {
+        regions.put(region.getRegionName(), region);
+        return region;
+    }
+
+    private long setting(String regionName, String key, long defaultValue) {
+        Object value = settings.get(SETTINGS_PREFIX + regionName + "." + key);
+        if (value == null) {
+            value = settings.get(SETTINGS_PREFIX + DEFAULT_REGION + "." + key);
+        }
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warning("Ignoring invalid cache setting " + SETTINGS_PREFIX + regionName + "." + key + "=" + value);
+            return defaultValue;
+        }
+    }
+
+    public record RegionUsage(String regionName, int entries, int maxEntries, long ttlSeconds, long evictions) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.streamhub.config;
+
+import com.streamhub.service.MetricsRegistry;
+import com.streamhub.service.SqlActivity;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call into a repository, both the Spring Data interfaces and the JDBC bulk repositories,
+ * into the streamhub_repository_seconds histogram labelled with the repository interface and method.
+ * Methods returning a Stream are timed until the stream is returned, not until it is consumed.
+ * The method is also noted on the request's {@link SqlActivity} as the origin of later N+1 suspects.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "streamhub.metrics.repository.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryMetricsAspect {
+
+    private static final String METRIC = "streamhub_repository_seconds";
+    private static final String HELP = "Repository method latency by repository, method and outcome";
+    private static final String[] LABELS = {"repository", "method", "outcome"};
+
+    private final MetricsRegistry metricsRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    // Custom fragment implementations (*Impl) are reached through their repository proxy, which is timed already
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) "
+        + "|| (within(com.streamhub.repository..*) && !within(com.streamhub.repository..*Impl))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint.getThis());
+        String method = joinPoint.getSignature().getName();
+        SqlActivity.enterRepository(repository + "." + method);
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            metricsRegistry.histogram(METRIC, HELP, LABELS, repository, method, outcome)
+                .recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Name of the application interface a Spring Data proxy implements, or the class of a plain repository
+     */
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (candidate.getName().startsWith("com.streamhub.repository.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return AopUtils.getTargetClass(proxy).getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.streamhub.config;
+
+import com.streamhub.service.MetricsRegistry;
+import com.streamhub.service.SqlActivity;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Access log with one key=value line per logged request on the com.streamhub.request logger: method, route
+ * pattern, status, latency, the query string and, when SQL tracking is on, the request's statements and rows.
+ * Each route logs a fraction of its requests, configured as "METHOD /pattern=rate" with sample-rate for all
+ * other routes; server errors, async timeouts and requests slower than slow-ms are always logged. The line is only built for
+ * requests that are logged, and it carries the rate it was sampled at so counts can be scaled back up.
+ * Runs outside {@link SqlBudgetFilter} so the SQL totals are final.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = Logger.getLogger("com.streamhub.request");
+
+    private static final String METRIC = "streamhub_request_log_total";
+    private static final String HELP = "Requests by access log outcome";
+    private static final String[] OUTCOME = {"outcome"};
+
+    private final boolean enabled;
+    private final double defaultRate;
+    private final Map<String, Map<String, Double>> routeRates;
+    private final long slowNanos;
+    private final LongAdder sampledOut;
+    private final LongAdder loggedSampled;
+    private final LongAdder loggedSlow;
+    private final LongAdder loggedError;
+
+    public RequestLogFilter(MetricsRegistry metricsRegistry,
+                            @Value("${streamhub.request-log.enabled:true}") boolean enabled,
+                            @Value("${streamhub.request-log.sample-rate:0.01}") double defaultRate,
+                            @Value("${streamhub.request-log.routes:}") List<String> routeRates,
+                            @Value("${streamhub.request-log.slow-ms:1000}") long slowMillis) {
+        this.enabled = enabled;
+        this.defaultRate = checkRate(defaultRate, "streamhub.request-log.sample-rate");
+        this.routeRates = parseRates(routeRates);
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+        this.sampledOut = metricsRegistry.counter(METRIC, HELP, OUTCOME, "sampled_out");
+        this.loggedSampled = metricsRegistry.counter(METRIC, HELP, OUTCOME, "sampled");
+        this.loggedSlow = metricsRegistry.counter(METRIC, HELP, OUTCOME, "slow");
+        this.loggedError = metricsRegistry.counter(METRIC, HELP, OUTCOME, "error");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !logger.isLoggable(Level.INFO);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    // A timed out or failed request is logged once, with its cause, rather than again on completion
+                    private final AtomicBoolean logged = new AtomicBoolean();
+
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true)) {
+                            log(request, response.getStatus(), start, null);
+                        }
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true)) {
+                            log(request, HttpServletResponse.SC_SERVICE_UNAVAILABLE, start,
+                                "async timeout after " + event.getAsyncContext().getTimeout() + " ms");
+                        }
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true)) {
+                            Throwable error = event.getThrowable();
+                            log(request, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start,
+                                error != null ? error.toString() : "async error");
+                        }
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                // An exception escaping the chain becomes a 500 after this filter has returned
+                log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start, null);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long start, String error) {
+        long elapsed = System.nanoTime() - start;
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : status == 404 ? "NOT_FOUND" : "UNKNOWN";
+
+        String reason;
+        double rate;
+        if (status >= 500) {
+            reason = "error";
+            rate = 1;
+            loggedError.increment();
+        } else if (elapsed >= slowNanos) {
+            reason = "slow";
+            rate = 1;
+            loggedSlow.increment();
+        } else {
+            reason = "sampled";
+            rate = rate(method, route);
+            if (rate < 1 && (rate <= 0 || ThreadLocalRandom.current().nextDouble() >= rate)) {
+                sampledOut.increment();
+                return;
+            }
+            loggedSampled.increment();
+        }
+
+        SqlActivity activity = (SqlActivity) request.getAttribute(SqlActivity.REQUEST_ATTRIBUTE);
+        String query = request.getQueryString();
+        logger.info(() -> {
+            StringBuilder line = new StringBuilder(160)
+                .append("method=").append(method)
+                .append(" route=").append(route)
+                .append(" status=").append(status)
+                .append(" duration_ms=").append(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            if (activity != null) {
+                line.append(" sql_statements=").append(activity.getStatements())
+                    .append(" sql_rows=").append(activity.getRows())
+                    .append(" sql_ms=").append(TimeUnit.NANOSECONDS.toMillis(activity.getNanos()));
+            }
+            if (query != null) {
+                line.append(" query=\"").append(query.replace("\"", "%22")).append('"');
+            }
+            if (error != null) {
+                line.append(" error=\"").append(error.replace("\"", "'")).append('"');
+            }
+            return line.append(" reason=").append(reason).append(" sample_rate=").append(rate).toString();
+        });
+    }
+
+    private double rate(String method, String route) {
+        Map<String, Double> rates = routeRates.get(method);
+        Double rate = rates != null ? rates.get(route) : null;
+        return rate != null ? rate : defaultRate;
+    }
+
+    private static Map<String, Map<String, Double>> parseRates(List<String> routeRates) {
+        // Keyed by method, then route, so the per-request lookup does not build a key
+        Map<String, Map<String, Double>> parsed = new HashMap<>();
+        for (String entry : routeRates) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int equals = entry.lastIndexOf('=');
+            String endpoint = equals > 0 ? entry.substring(0, equals).trim() : "";
+            int space = endpoint.indexOf(' ');
+            if (space < 0) {
+                throw new IllegalArgumentException("Request log rate must look like 'GET /v1/catalog=0.001': " + entry);
+            }
+            double rate = checkRate(Double.parseDouble(entry.substring(equals + 1).trim()), entry);
+            parsed.computeIfAbsent(endpoint.substring(0, space), method -> new HashMap<>())
+                .put(endpoint.substring(space + 1).trim(), rate);
+        }
+        return parsed;
+    }
+
+    private static double checkRate(double rate, String source) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Request log sample rate must be between 0 and 1: " + source);
+        }
+        return rate;
+    }
+}
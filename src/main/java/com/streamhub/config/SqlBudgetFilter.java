@@ -0,0 +1,155 @@
+package com.streamhub.config;
+
+import com.streamhub.service.SqlActivity;
+import com.streamhub.service.SqlBudgetMonitor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the JDBC activity of each request (see {@link StatementTrackingDataSource}) and hands it to the
+ * {@link SqlBudgetMonitor}. The counts are also sent as X-SQL-* response headers; headers have to go out before
+ * the body, so they cover the statements executed until the response starts, while metrics and budget checks
+ * use the final totals. With enforcement on, an exceeded budget is checked at the same point and fails the
+ * request before anything is committed; requests without a body are checked once the handler returns.
+ */
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String N_PLUS_ONE_HEADER = "X-SQL-N-Plus-One";
+
+    private final SqlBudgetMonitor sqlBudgetMonitor;
+    private final boolean headers;
+
+    public SqlBudgetFilter(SqlBudgetMonitor sqlBudgetMonitor,
+                           @Value("${streamhub.sql-budget.headers:true}") boolean headers) {
+        this.sqlBudgetMonitor = sqlBudgetMonitor;
+        this.headers = headers;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !sqlBudgetMonitor.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlActivity activity = SqlActivity.begin(sqlBudgetMonitor.getRepeatThreshold());
+        request.setAttribute(SqlActivity.REQUEST_ATTRIBUTE, activity);
+        SqlHeaderResponse tracked = new SqlHeaderResponse(request, response, activity);
+        String violation;
+        try {
+            chain.doFilter(request, tracked);
+        } finally {
+            SqlActivity.end();
+            tracked.beforeCommit(false);
+            violation = sqlBudgetMonitor.complete(request.getMethod(), route(request), activity);
+        }
+        if (violation != null && !tracked.isCommitted()) {
+            throw new IllegalStateException("SQL statement budget exceeded: " + violation);
+        }
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    /**
+     * Adds the SQL headers and enforces the budget just before the response is committed
+     */
+    private final class SqlHeaderResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final SqlActivity activity;
+        private boolean written;
+
+        SqlHeaderResponse(HttpServletRequest request, HttpServletResponse response, SqlActivity activity) {
+            super(response);
+            this.request = request;
+            this.activity = activity;
+        }
+
+        /**
+         * @param enforce fail with IllegalStateException when the request is over its enforced budget; the
+         *                exception propagates out of the body write while the response can still become a 500
+         */
+        void beforeCommit(boolean enforce) {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            if (headers) {
+                writeHeaders();
+            }
+            if (enforce) {
+                String violation = sqlBudgetMonitor.violation(request.getMethod(), route(request),
+                    activity.getStatements());
+                if (violation != null) {
+                    throw new IllegalStateException("SQL statement budget exceeded: " + violation);
+                }
+            }
+        }
+
+        private void writeHeaders() {
+            setHeader(STATEMENTS_HEADER, Long.toString(activity.getStatements()));
+            setHeader(ROWS_HEADER, Long.toString(activity.getRows()));
+            setHeader(TIME_HEADER, Long.toString(TimeUnit.NANOSECONDS.toMillis(activity.getNanos())));
+            int suspects = activity.getSuspects().size();
+            if (suspects > 0) {
+                setHeader(N_PLUS_ONE_HEADER, Integer.toString(suspects));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeCommit(true);
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeCommit(true);
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit(true);
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit(false);
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit(false);
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            beforeCommit(false);
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.streamhub.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class SqlTrackingConfig {
+
+    /**
+     * Wraps the application data source so per-request statement budgets and the SQL log see every JDBC statement
+     */
+    @Bean
+    public static BeanPostProcessor statementTrackingPostProcessor(Environment environment) {
+        String mode = environment.getProperty("streamhub.sql-log.mode", "slow").trim().toLowerCase(Locale.ROOT);
+        long slowNanos = switch (mode) {
+            case "off" -> -1;
+            case "all" -> 0;
+            case "slow" -> TimeUnit.MILLISECONDS.toNanos(
+                environment.getProperty("streamhub.sql-log.slow-threshold-ms", Long.class, 200L));
+            default -> throw new IllegalArgumentException("streamhub.sql-log.mode must be off, slow or all: " + mode);
+        };
+        double sampleRate = environment.getProperty("streamhub.sql-log.sample-rate", Double.class, 1.0);
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("streamhub.sql-log.sample-rate must be between 0 and 1");
+        }
+        boolean enabled = environment.getProperty("streamhub.sql-budget.enabled", Boolean.class, true) || slowNanos >= 0;
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof StatementTrackingDataSource)) {
+                    return new StatementTrackingDataSource(dataSource, slowNanos, sampleRate);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.streamhub.config;
+
+import com.streamhub.service.SqlActivity;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Data source wrapper that reports executed statements, their driver time and the rows read from their
+ * result sets to the {@link SqlActivity} of the current request. Covers Hibernate and the JdbcTemplate
+ * bulk repositories alike. Also the SQL log in place of Hibernate's show-sql: statements slower than the
+ * threshold are logged, a sampled fraction of them when sampleRate is below 1, and a threshold of 0 logs
+ * every statement. Outside a tracked request and with the SQL log off, the driver's own statements are handed
+ * out unwrapped, so background work pays only for the connection proxy.
+ */
+public class StatementTrackingDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = Logger.getLogger("com.streamhub.sql");
+
+    private static final int MAX_LOGGED_SQL = 2000;
+
+    private final long slowNanos;
+    private final double sampleRate;
+
+    /**
+     * @param slowNanos  log statements taking at least this long, or -1 to log none
+     * @param sampleRate fraction of those statements that is logged
+     */
+    public StatementTrackingDataSource(DataSource target, long slowNanos, double sampleRate) {
+        super(target);
+        this.slowNanos = slowNanos;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && (SqlActivity.current() != null || slowNanos >= 0)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return trackStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private Statement trackStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet resultSet && method.getName().equals("getResultSet")
+                    && SqlActivity.current() != null ? trackResultSet(resultSet) : result;
+            }
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet resultSet && SqlActivity.current() != null
+                    ? trackResultSet(resultSet) : result;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                SqlActivity activity = SqlActivity.current();
+                if (activity != null) {
+                    activity.statementExecuted(sql, elapsed);
+                }
+                if (slowNanos >= 0 && elapsed >= slowNanos) {
+                    logStatement(sql, elapsed);
+                }
+            }
+        });
+    }
+
+    private void logStatement(String sql, long elapsedNanos) {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        // Every statement is routine when all of them are logged, above a threshold they are worth a warning
+        logger.log(slowNanos > 0 ? Level.WARNING : Level.INFO, () -> {
+            String statement = sql != null ? sql.replaceAll("\\s+", " ").trim() : "batch";
+            return "SQL " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms: "
+                + (statement.length() > MAX_LOGGED_SQL ? statement.substring(0, MAX_LOGGED_SQL) + "..." : statement);
+        });
+    }
+
+    private static ResultSet trackResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                SqlActivity activity = SqlActivity.current();
+                if (activity != null) {
+                    activity.rowRead();
+                }
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementTrackingDataSource.class.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> switch (method.getName()) {
+                // Callers unwrapping to driver classes get the driver object, and identity stays with the proxy
+                case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) ? proxy : invoke(target, method, args);
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy) || (boolean) invoke(target, method, args);
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Tracked " + target;
+                default -> handler.invoke(proxy, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
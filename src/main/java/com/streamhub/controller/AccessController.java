@@ -0,0 +1,103 @@
+package com.streamhub.controller;
+
+import com.streamhub.dto.AccessCheckResultDTO;
+import com.streamhub.dto.AccessLogPageDTO;
+import com.streamhub.service.AccessCheckService;
+import com.streamhub.service.AccessLogHistoryService;
+import com.streamhub.service.AccessLogWriter;
+import com.streamhub.service.EntitlementService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+
+@RestController
+@RequestMapping("/v1")
+public class AccessController {
+
+    private static final Logger logger = Logger.getLogger(AccessController.class.getName());
+    private final AccessCheckService accessCheckService;
+    private final EntitlementService entitlementService;
+    private final AccessLogWriter accessLogWriter;
+    private final AccessLogHistoryService accessLogHistoryService;
+
+    public AccessController(AccessCheckService accessCheckService, EntitlementService entitlementService,
+                            AccessLogWriter accessLogWriter, AccessLogHistoryService accessLogHistoryService) {
+        this.accessCheckService = accessCheckService;
+        this.entitlementService = entitlementService;
+        this.accessLogWriter = accessLogWriter;
+        this.accessLogHistoryService = accessLogHistoryService;
+    }
+
+    /**
+     * POST /v1/content/{contentId}/access-check - Decide whether a user may play a content item.
+     * Answers 200 with granted=false when the user has no active subscription; every decision is
+     * recorded in access_control_log asynchronously.
+     */
+    @PostMapping("/content/{contentId}/access-check")
+    public ResponseEntity<AccessCheckResultDTO> checkAccess(
+            @PathVariable Long contentId,
+            @RequestParam(name = "userId") Long userId,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            HttpServletRequest request) {
+        logger.fine(() -> "POST request: Access check - contentId=" + contentId + ", userId=" + userId);
+        try {
+            AccessCheckResultDTO result = accessCheckService.checkAccess(contentId, userId,
+                request.getRemoteAddr(), userAgent);
+            return ResponseEntity.ok(result);
+        } catch (NoSuchElementException e) {
+            logger.warning("Access check rejected: " + e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            logger.severe("Error checking access: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * GET /v1/access-log/users/{userId} - A user's access history between from and to (ISO date-times,
+     * default the last 30 days), newest first. Ranges reaching into archived months are read from the archive.
+     */
+    @GetMapping("/access-log/users/{userId}")
+    public ResponseEntity<AccessLogPageDTO> getUserAccessHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false, name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false, name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0", name = "page") int page,
+            @RequestParam(defaultValue = "50", name = "pageSize") int pageSize) {
+        if (page < 0 || pageSize < 1 || pageSize > 500) {
+            return ResponseEntity.badRequest().build();
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        try {
+            return ResponseEntity.ok(accessLogHistoryService.getUserHistory(userId, start, end, page, pageSize));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid request fetching access history: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.severe("Error fetching access history: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * GET /v1/stats/access - Entitlement cache and access log writer counters
+     */
+    @GetMapping("/stats/access")
+    public ResponseEntity<Map<String, Object>> getAccessStatistics() {
+        logger.info("GET request: Fetch access statistics");
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("entitlements", entitlementService.getStatistics());
+        response.put("accessLog", accessLogWriter.getStatistics());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,30 @@
+package com.streamhub.controller;
+
+import com.streamhub.service.AuditTrailWriter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.logging.Logger;
+
+@RestController
+@RequestMapping("/v1")
+public class AuditController {
+
+    private static final Logger logger = Logger.getLogger(AuditController.class.getName());
+    private final AuditTrailWriter auditTrailWriter;
+
+    public AuditController(AuditTrailWriter auditTrailWriter) {
+        this.auditTrailWriter = auditTrailWriter;
+    }
+
+    /**
+     * GET /v1/stats/audit - Audit trail writer counters, including rows waiting in the local spool
+     */
+    @GetMapping("/stats/audit")
+    public ResponseEntity<AuditTrailWriter.AuditStats> getAuditStatistics() {
+        logger.info("GET request: Fetch audit trail statistics");
+        return ResponseEntity.ok(auditTrailWriter.getStatistics());
+    }
+}
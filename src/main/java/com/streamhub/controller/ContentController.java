@@ -1,14 +1,39 @@
 package com.streamhub.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.streamhub.dto.BulkIngestResultDTO;
 import com.streamhub.dto.CatalogResponseDTO;
 import com.streamhub.entity.Content;
+import com.streamhub.service.CatalogCache;
+import com.streamhub.service.CatalogExportService;
+import com.streamhub.service.ContentFacetIndex;
+import com.streamhub.service.ContentIngestService;
+import com.streamhub.service.ContentPatch;
+import com.streamhub.service.ContentSearchIndex;
 import com.streamhub.service.ContentService;
+import com.streamhub.service.TrendingTracker;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 import java.util.logging.Logger;
 
 @RestController
@@ -18,34 +43,205 @@ public class ContentController {
     private static final Logger logger = Logger.getLogger(ContentController.class.getName());
     private final ContentService contentService;
 
-    public ContentController(ContentService contentService) {
+    private final CatalogExportService catalogExportService;
+    private final ContentIngestService contentIngestService;
+    private final ObjectMapper objectMapper;
+
+    public ContentController(ContentService contentService, CatalogExportService catalogExportService,
+                             ContentIngestService contentIngestService, ObjectMapper objectMapper) {
         this.contentService = contentService;
+        this.catalogExportService = catalogExportService;
+        this.contentIngestService = contentIngestService;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * GET /v1/catalog - Get the catalog with pagination and sorting.
+     * Passing the nextCursor of a previous response as "after" (or an empty value to start)
+     * switches to keyset pagination, which costs the same at any depth and omits the total.
+     * Responses carry an ETag of the catalog version; a matching If-None-Match gets 304 without any query.
+     */
     @GetMapping("/catalog")
     public ResponseEntity<CatalogResponseDTO> getCatalog(
             @RequestParam(defaultValue = "0", name = "page") int page,
             @RequestParam(defaultValue = "10", name = "pageSize") int pageSize,
             @RequestParam(defaultValue = "createdAt", name = "sortBy") String sortBy,
-            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection) {
+            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection,
+            @RequestParam(required = false, name = "after") String after,
+            @RequestParam(defaultValue = "full", name = "view") String view,
+            @RequestParam(required = false, name = "include") String include,
+            WebRequest webRequest) {
         
-        logger.info("GET request: Fetch catalog - page=" + page + ", pageSize=" + pageSize + 
+        logger.fine(() -> "GET request: Fetch catalog - page=" + page + ", pageSize=" + pageSize + 
                     ", sortBy=" + sortBy + ", sortDirection=" + sortDirection);
         
+        boolean compact = isCompact(view);
+        boolean includeStream = includesStream(include);
+        contentService.validateListing(page, pageSize, sortBy, sortDirection, after);
+
+        String etag = ConditionalGet.etag("catalog", contentService.getCatalogVersionTag());
+        long lastModified = contentService.getCatalogLastModified();
+        if (ConditionalGet.isNotModified(webRequest, etag, lastModified)) {
+            return notModified(etag, lastModified);
+        }
+
         try {
-            CatalogResponseDTO response = contentService.getCatalogResponse(page, pageSize, sortBy, sortDirection);
-            return ResponseEntity.ok(response);
+            CatalogResponseDTO response = contentService.getCatalogResponse(page, pageSize, sortBy, sortDirection, after, compact, includeStream);
+            return withValidators(ResponseEntity.ok(), etag, lastModified).body(response);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid request fetching catalog: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.severe("Error fetching catalog: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * GET /v1/catalog/facets - Faceted catalog listing with per-value counts.
+     * Filters on contentType, genre, language, rating and status accept comma-separated alternatives;
+     * items and counts come from the in-memory facet index, newest first. Returns 503 while the index is loading.
+     */
+    @GetMapping("/catalog/facets")
+    public ResponseEntity<CatalogResponseDTO> getCatalogFacets(
+            @RequestParam(required = false, name = "contentType") String contentType,
+            @RequestParam(required = false, name = "genre") String genre,
+            @RequestParam(required = false, name = "language") String language,
+            @RequestParam(required = false, name = "rating") String rating,
+            @RequestParam(required = false, name = "status") String status,
+            @RequestParam(defaultValue = "0", name = "page") int page,
+            @RequestParam(defaultValue = "10", name = "pageSize") int pageSize,
+            @RequestParam(defaultValue = "full", name = "view") String view,
+            @RequestParam(required = false, name = "include") String include,
+            WebRequest webRequest) {
+
+        logger.fine(() -> "GET request: Fetch catalog facets - page=" + page + ", pageSize=" + pageSize);
+
+        boolean compact = isCompact(view);
+        boolean includeStream = includesStream(include);
+        contentService.validatePage(page, pageSize);
+
+        String etag = ConditionalGet.etag("catalog", contentService.getCatalogVersionTag());
+        long lastModified = contentService.getCatalogLastModified();
+        if (ConditionalGet.isNotModified(webRequest, etag, lastModified)) {
+            return notModified(etag, lastModified);
+        }
+
+        try {
+            CatalogResponseDTO response = contentService.getFacetedCatalogResponse(contentType, genre, language,
+                rating, status, page, pageSize, compact, includeStream);
+            return withValidators(ResponseEntity.ok(), etag, lastModified).body(response);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid request fetching catalog facets: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warning("Catalog facets unavailable: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        } catch (Exception e) {
+            logger.severe("Error fetching catalog facets: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * GET /v1/catalog/trending - Most viewed content over the last 1h, 24h or 7d.
+     * Views are granted access checks counted in memory; each item's score is its estimated view count.
+     */
+    @GetMapping("/catalog/trending")
+    public ResponseEntity<CatalogResponseDTO> getTrending(
+            @RequestParam(defaultValue = "24h", name = "window") String window,
+            @RequestParam(defaultValue = "10", name = "limit") int limit,
+            @RequestParam(defaultValue = "full", name = "view") String view,
+            @RequestParam(required = false, name = "include") String include) {
+
+        logger.fine(() -> "GET request: Fetch trending content - window=" + window + ", limit=" + limit);
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            CatalogResponseDTO response = contentService.getTrendingResponse(window, limit, isCompact(view), includesStream(include));
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(contentService.getTrendingRefreshSeconds(), TimeUnit.SECONDS))
+                .body(response);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid request fetching trending content: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.severe("Error fetching trending content: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * GET /v1/catalog/export - Stream the whole catalog as newline-delimited JSON.
+     * Optional filters by type, genre and status; gzip=true compresses on the fly.
+     */
+    @GetMapping("/catalog/export")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+            @RequestParam(required = false, name = "type") String contentType,
+            @RequestParam(required = false, name = "genre") String genre,
+            @RequestParam(required = false, name = "status") String status,
+            @RequestParam(defaultValue = "false", name = "gzip") boolean gzip,
+            WebRequest webRequest) {
+
+        logger.fine(() -> "GET request: Export catalog - type=" + contentType + ", genre=" + genre +
+                    ", status=" + status + ", gzip=" + gzip);
+
+        // Only this response gets the long timeout; it is applied just before the async request starts
+        long timeoutMillis = catalogExportService.getTimeoutMillis();
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor("catalogExportTimeout",
+            new CallableProcessingInterceptor() {
+                @Override
+                public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                    if (request instanceof AsyncWebRequest asyncRequest) {
+                        asyncRequest.setTimeout(timeoutMillis);
+                    }
+                }
+            });
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024)) {
+                    catalogExportService.exportNdjson(contentType, genre, status, compressed);
+                }
+            } else {
+                catalogExportService.exportNdjson(contentType, genre, status, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"catalog.ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * GET /v1/content/{contentId} - Get a single content item.
+     * The entity tag follows the catalog version, so If-None-Match is answered without a query;
+     * If-Modified-Since is checked against updatedAt once the row is loaded.
+     */
     @GetMapping("/content/{contentId}")
-    public ResponseEntity<Content> getContentById(@PathVariable Long contentId) {
-        logger.info("GET request: Fetch content with ID: " + contentId);
+    public ResponseEntity<Content> getContentById(@PathVariable Long contentId, WebRequest webRequest) {
+        logger.fine(() -> "GET request: Fetch content with ID: " + contentId);
+
+        String etag = ConditionalGet.etag("content-" + contentId, contentService.getCatalogVersionTag());
+        if (ConditionalGet.isNotModified(webRequest, etag, -1)) {
+            return notModified(etag, -1);
+        }
         return contentService.getContentById(contentId)
-            .map(ResponseEntity::ok)
+            .map(content -> {
+                long lastModified = content.getUpdatedAt() != null
+                    ? content.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : -1;
+                if (ConditionalGet.isNotModified(webRequest, etag, lastModified)) {
+                    return ContentController.<Content>notModified(etag, lastModified);
+                }
+                return withValidators(ResponseEntity.ok(), etag, lastModified).body(content);
+            })
             .orElse(ResponseEntity.notFound().build());
     }
 
@@ -58,13 +254,30 @@ public class ContentController {
             @RequestParam(defaultValue = "0", name = "page") int page,
             @RequestParam(defaultValue = "10", name = "pageSize") int pageSize,
             @RequestParam(defaultValue = "createdAt", name = "sortBy") String sortBy,
-            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection) {
+            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection,
+            @RequestParam(required = false, name = "after") String after,
+            @RequestParam(defaultValue = "full", name = "view") String view,
+            @RequestParam(required = false, name = "include") String include,
+            WebRequest webRequest) {
         
-        logger.info("GET request: Fetch content by type - " + contentType + ", page=" + page);
+        logger.fine(() -> "GET request: Fetch content by type - " + contentType + ", page=" + page);
         
+        boolean compact = isCompact(view);
+        boolean includeStream = includesStream(include);
+        contentService.validateListing(page, pageSize, sortBy, sortDirection, after);
+        
+        String etag = ConditionalGet.etag("catalog", contentService.getCatalogVersionTag());
+        long lastModified = contentService.getCatalogLastModified();
+        if (ConditionalGet.isNotModified(webRequest, etag, lastModified)) {
+            return notModified(etag, lastModified);
+        }
+
         try {
-            CatalogResponseDTO response = contentService.getContentByTypeResponse(contentType, page, pageSize, sortBy, sortDirection);
-            return ResponseEntity.ok(response);
+            CatalogResponseDTO response = contentService.getContentByTypeResponse(contentType, page, pageSize, sortBy, sortDirection, after, compact, includeStream);
+            return withValidators(ResponseEntity.ok(), etag, lastModified).body(response);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid request fetching content by type: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.severe("Error fetching content by type: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -80,13 +293,30 @@ public class ContentController {
             @RequestParam(defaultValue = "0", name = "page") int page,
             @RequestParam(defaultValue = "10", name = "pageSize") int pageSize,
             @RequestParam(defaultValue = "createdAt", name = "sortBy") String sortBy,
-            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection) {
+            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection,
+            @RequestParam(required = false, name = "after") String after,
+            @RequestParam(defaultValue = "full", name = "view") String view,
+            @RequestParam(required = false, name = "include") String include,
+            WebRequest webRequest) {
+        
+        logger.fine(() -> "GET request: Fetch content by genre - " + genre + ", page=" + page);
         
-        logger.info("GET request: Fetch content by genre - " + genre + ", page=" + page);
+        boolean compact = isCompact(view);
+        boolean includeStream = includesStream(include);
+        contentService.validateListing(page, pageSize, sortBy, sortDirection, after);
         
+        String etag = ConditionalGet.etag("catalog", contentService.getCatalogVersionTag());
+        long lastModified = contentService.getCatalogLastModified();
+        if (ConditionalGet.isNotModified(webRequest, etag, lastModified)) {
+            return notModified(etag, lastModified);
+        }
+
         try {
-            CatalogResponseDTO response = contentService.getContentByGenreResponse(genre, page, pageSize, sortBy, sortDirection);
-            return ResponseEntity.ok(response);
+            CatalogResponseDTO response = contentService.getContentByGenreResponse(genre, page, pageSize, sortBy, sortDirection, after, compact, includeStream);
+            return withValidators(ResponseEntity.ok(), etag, lastModified).body(response);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid request fetching content by genre: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.severe("Error fetching content by genre: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -94,21 +324,41 @@ public class ContentController {
     }
 
     /**
-     * GET /v1/search - Search content by keyword with pagination and sorting
+     * GET /v1/search - Search content by keyword with pagination and sorting.
+     * mode=index (default) ranks by relevance over title, genre and description; mode=like matches title substrings;
+     * mode=fulltext and mode=boolean rank with the MySQL FULLTEXT index on title and genre.
      */
     @GetMapping("/search")
     public ResponseEntity<CatalogResponseDTO> searchContent(
             @RequestParam String keyword,
+            @RequestParam(required = false, name = "mode") String mode,
             @RequestParam(defaultValue = "0", name = "page") int page,
             @RequestParam(defaultValue = "10", name = "pageSize") int pageSize,
             @RequestParam(defaultValue = "createdAt", name = "sortBy") String sortBy,
-            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection) {
+            @RequestParam(defaultValue = "desc", name = "sortDirection") String sortDirection,
+            @RequestParam(required = false, name = "after") String after,
+            @RequestParam(defaultValue = "full", name = "view") String view,
+            @RequestParam(required = false, name = "include") String include,
+            WebRequest webRequest) {
+        
+        logger.fine(() -> "GET request: Search content with keyword - " + keyword + ", page=" + page);
         
-        logger.info("GET request: Search content with keyword - " + keyword + ", page=" + page);
+        boolean compact = isCompact(view);
+        boolean includeStream = includesStream(include);
+        contentService.validateSearch(mode, page, pageSize, sortBy, sortDirection, after);
         
+        String etag = ConditionalGet.etag("catalog", contentService.getCatalogVersionTag());
+        long lastModified = contentService.getCatalogLastModified();
+        if (ConditionalGet.isNotModified(webRequest, etag, lastModified)) {
+            return notModified(etag, lastModified);
+        }
+
         try {
-            CatalogResponseDTO response = contentService.searchContentResponse(keyword, page, pageSize, sortBy, sortDirection);
-            return ResponseEntity.ok(response);
+            CatalogResponseDTO response = contentService.searchContentResponse(keyword, mode, page, pageSize, sortBy, sortDirection, after, compact, includeStream);
+            return withValidators(ResponseEntity.ok(), etag, lastModified).body(response);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid request searching content: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.severe("Error searching content: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -117,14 +367,50 @@ public class ContentController {
 
     @GetMapping("/stats")
     public ResponseEntity<ContentService.ContentStats> getStatistics() {
-        logger.info("GET request: Fetch content statistics");
+        logger.fine(() -> "GET request: Fetch content statistics");
         ContentService.ContentStats stats = contentService.getStatistics();
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * GET /v1/stats/cache - Catalog response cache hit/miss/eviction counters
+     */
+    @GetMapping("/stats/cache")
+    public ResponseEntity<CatalogCache.CacheStats> getCatalogCacheStatistics() {
+        logger.fine(() -> "GET request: Fetch catalog cache statistics");
+        return ResponseEntity.ok(contentService.getCatalogCacheStatistics());
+    }
+
+    /**
+     * GET /v1/stats/search - In-memory search index size
+     */
+    @GetMapping("/stats/search")
+    public ResponseEntity<ContentSearchIndex.IndexStats> getSearchIndexStatistics() {
+        logger.fine(() -> "GET request: Fetch search index statistics");
+        return ResponseEntity.ok(contentService.getSearchIndexStatistics());
+    }
+
+    /**
+     * GET /v1/stats/facets - In-memory facet index size
+     */
+    @GetMapping("/stats/facets")
+    public ResponseEntity<ContentFacetIndex.FacetStats> getFacetIndexStatistics() {
+        logger.fine(() -> "GET request: Fetch facet index statistics");
+        return ResponseEntity.ok(contentService.getFacetIndexStatistics());
+    }
+
+    /**
+     * GET /v1/stats/trending - Trending sketch event and candidate counts
+     */
+    @GetMapping("/stats/trending")
+    public ResponseEntity<TrendingTracker.TrendingStats> getTrendingStatistics() {
+        logger.fine(() -> "GET request: Fetch trending statistics");
+        return ResponseEntity.ok(contentService.getTrendingStatistics());
+    }
+
     @PostMapping("/content")
     public ResponseEntity<Content> createContent(@Valid @RequestBody Content content) {
-        logger.info("POST request: Create new content - " + content.getTitle());
+        logger.fine(() -> "POST request: Create new content - " + content.getTitle());
         try {
             Content createdContent = contentService.createContent(content);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdContent);
@@ -134,23 +420,68 @@ public class ContentController {
         }
     }
 
+    /**
+     * POST /v1/content/bulk - Insert many content items with batched JDBC inserts.
+     * Rejected rows are reported individually; the rest are inserted.
+     */
+    @PostMapping("/content/bulk")
+    public ResponseEntity<BulkIngestResultDTO> bulkCreateContent(
+            @RequestBody List<Content> contents,
+            @RequestParam(required = false, name = "batchSize") Integer batchSize) {
+        logger.fine(() -> "POST request: Bulk create content - " + contents.size() + " rows");
+        BulkIngestResultDTO result = contentIngestService.ingest(contents, batchSize);
+        HttpStatus status = result.getInserted() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @PutMapping("/content/{contentId}")
     public ResponseEntity<Content> updateContent(
         @PathVariable Long contentId,
         @Valid @RequestBody Content content) {
-        logger.info("PUT request: Update content with ID: " + contentId);
+        logger.fine(() -> "PUT request: Update content with ID: " + contentId);
         try {
             Content updatedContent = contentService.updateContent(contentId, content);
             return ResponseEntity.ok(updatedContent);
+        } catch (OptimisticLockingFailureException e) {
+            logger.warning("Concurrent update of content " + contentId + ": " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             logger.severe("Error updating content: " + e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * PATCH /v1/content/{contentId} - Update only the fields present in the body (null clears a field).
+     * The body must carry the versionId of the revision being edited; if the content changed since,
+     * nothing is written and 409 is returned with the current state left intact.
+     */
+    @PatchMapping("/content/{contentId}")
+    public ResponseEntity<ContentService.ContentPatchResult> patchContent(
+        @PathVariable Long contentId,
+        @RequestBody Map<String, Object> body) {
+        logger.fine(() -> "PATCH request: Update fields of content with ID: " + contentId);
+        try {
+            ContentPatch patch = ContentPatch.parse(body, objectMapper);
+            return ResponseEntity.ok(contentService.patchContent(contentId, patch));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid patch for content " + contentId + ": " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (NoSuchElementException e) {
+            logger.warning("Patch rejected: " + e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException e) {
+            logger.warning("Patch conflict: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            logger.severe("Error patching content: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @DeleteMapping("/content/{contentId}")
     public ResponseEntity<Map<String, String>> deleteContent(@PathVariable Long contentId) {
-        logger.info("DELETE request: Delete content with ID: " + contentId);
+        logger.fine(() -> "DELETE request: Delete content with ID: " + contentId);
         try {
             contentService.deleteContent(contentId);
             return ResponseEntity.ok(Map.of("message", "Content deleted successfully"));
@@ -160,6 +491,54 @@ public class ContentController {
         }
     }
 
+    private static <T> ResponseEntity<T> notModified(String etag, long lastModified) {
+        return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, lastModified).build();
+    }
+
+    /**
+     * Clients may keep the representation but must revalidate it with the entity tag
+     */
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, String etag,
+                                                            long lastModified) {
+        builder.eTag(etag).cacheControl(CacheControl.noCache());
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    /**
+     * view=compact omits description and thumbnailURL, which are never read from the database then
+     */
+    private static boolean isCompact(String view) {
+        if ("compact".equalsIgnoreCase(view)) {
+            return true;
+        }
+        if ("full".equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown view: " + view);
+    }
+
+    /**
+     * include=stream adds each item's streamUrl and streamDuration, read in the same statement as the page
+     */
+    private static boolean includesStream(String include) {
+        if (include == null) {
+            return false;
+        }
+        boolean stream = false;
+        for (String part : include.split(",")) {
+            String value = part.trim();
+            if ("stream".equalsIgnoreCase(value)) {
+                stream = true;
+            } else if (!value.isEmpty()) {
+                throw new IllegalArgumentException("Unknown include: " + value);
+            }
+        }
+        return stream;
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
         logger.severe("Invalid argument: " + e.getMessage());
@@ -1,5 +1,7 @@
 package com.streamhub.controller;
 
+import com.streamhub.service.DatabaseHealthCheck;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,6 +18,12 @@ import java.time.LocalDateTime;
 @RequestMapping
 public class HealthController {
 
+    private final DatabaseHealthCheck databaseHealthCheck;
+
+    public HealthController(DatabaseHealthCheck databaseHealthCheck) {
+        this.databaseHealthCheck = databaseHealthCheck;
+    }
+
     /**
      * Health check endpoint - returns API status
      * @return Health status information
@@ -56,15 +64,20 @@ public class HealthController {
     }
 
     /**
-     * Readiness probe endpoint - checks if service is ready to handle traffic
-     * @return Readiness status
+     * Readiness probe endpoint - checks if service is ready to handle traffic by validating a pooled
+     * database connection; the check is cached briefly and time-bounded
+     * @return Readiness status, 503 when the database is unavailable
      */
     @GetMapping("/health/ready")
-    public ResponseEntity<Map<String, String>> readiness() {
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "READY");
+    public ResponseEntity<Map<String, Object>> readiness() {
+        DatabaseHealthCheck.DatabaseStatus database = databaseHealthCheck.check();
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", database.up() ? "READY" : "NOT_READY");
         response.put("service", "StreamHub Backend");
-        response.put("database", "Configured");
-        return ResponseEntity.ok(response);
+        response.put("database", database.up() ? "UP" : "DOWN");
+        response.put("databaseDetail", database.detail());
+        response.put("databaseLatencyMs", database.latencyMillis());
+        response.put("checkedAt", database.checkedAt());
+        return ResponseEntity.status(database.up() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 }
@@ -0,0 +1,93 @@
+package com.streamhub.controller;
+
+import com.streamhub.dto.RevenueReportDTO;
+import com.streamhub.service.RevenueReportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+@RestController
+@RequestMapping("/v1/reports")
+public class ReportController {
+
+    private static final Logger logger = Logger.getLogger(ReportController.class.getName());
+    private final RevenueReportService revenueReportService;
+
+    public ReportController(RevenueReportService revenueReportService) {
+        this.revenueReportService = revenueReportService;
+    }
+
+    /**
+     * POST /v1/reports/revenue - Generate and store the revenue report of a period (ISO dates, both inclusive)
+     * from the daily rollups
+     */
+    @PostMapping("/revenue")
+    public ResponseEntity<RevenueReportDTO> generateRevenueReport(
+            @RequestParam(name = "start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(name = "end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false, name = "createdBy") String createdBy) {
+        logger.fine(() -> "POST request: Generate revenue report - start=" + start + ", end=" + end);
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(revenueReportService.generate(start, end, createdBy != null ? createdBy : "SYSTEM"));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid revenue report request: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.severe("Error generating revenue report: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * GET /v1/reports/revenue - Stored revenue reports, latest period first
+     */
+    @GetMapping("/revenue")
+    public ResponseEntity<List<RevenueReportDTO>> getRevenueReports(
+            @RequestParam(defaultValue = "0", name = "page") int page,
+            @RequestParam(defaultValue = "20", name = "pageSize") int pageSize) {
+        logger.fine(() -> "GET request: Fetch revenue reports - page=" + page);
+        if (page < 0 || pageSize < 1 || pageSize > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(revenueReportService.getReports(page, pageSize));
+        } catch (Exception e) {
+            logger.severe("Error fetching revenue reports: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * POST /v1/reports/revenue/rollups/rebuild - Recompute the daily rollups of a period from payment_transaction,
+     * e.g. after payments were changed outside the application
+     */
+    @PostMapping("/revenue/rollups/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRevenueRollups(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.fine(() -> "POST request: Rebuild revenue rollups - from=" + from + ", to=" + to);
+        try {
+            int rows = revenueReportService.rebuildRollups(from, to);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", "success");
+            response.put("from", from);
+            response.put("to", to);
+            response.put("rollupRows", rows);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid rollup rebuild request: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.severe("Error rebuilding revenue rollups: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
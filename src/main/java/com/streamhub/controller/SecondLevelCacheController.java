@@ -0,0 +1,30 @@
+package com.streamhub.controller;
+
+import com.streamhub.service.SecondLevelCacheService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.logging.Logger;
+
+@RestController
+@RequestMapping("/v1")
+public class SecondLevelCacheController {
+
+    private static final Logger logger = Logger.getLogger(SecondLevelCacheController.class.getName());
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    public SecondLevelCacheController(SecondLevelCacheService secondLevelCacheService) {
+        this.secondLevelCacheService = secondLevelCacheService;
+    }
+
+    /**
+     * GET /v1/stats/second-level-cache - Hibernate entity and query cache counters per region, with region sizes
+     */
+    @GetMapping("/stats/second-level-cache")
+    public ResponseEntity<SecondLevelCacheService.SecondLevelCacheStats> getSecondLevelCacheStatistics() {
+        logger.info("GET request: Fetch second-level cache statistics");
+        return ResponseEntity.ok(secondLevelCacheService.getStatistics());
+    }
+}
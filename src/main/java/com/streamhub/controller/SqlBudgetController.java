@@ -0,0 +1,30 @@
+package com.streamhub.controller;
+
+import com.streamhub.service.SqlBudgetMonitor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.logging.Logger;
+
+@RestController
+@RequestMapping("/v1")
+public class SqlBudgetController {
+
+    private static final Logger logger = Logger.getLogger(SqlBudgetController.class.getName());
+    private final SqlBudgetMonitor sqlBudgetMonitor;
+
+    public SqlBudgetController(SqlBudgetMonitor sqlBudgetMonitor) {
+        this.sqlBudgetMonitor = sqlBudgetMonitor;
+    }
+
+    /**
+     * GET /v1/stats/sql - Per-request SQL budget counters and the most recent N+1 suspects and budget violations
+     */
+    @GetMapping("/stats/sql")
+    public ResponseEntity<SqlBudgetMonitor.SqlBudgetStats> getSqlBudgetStatistics() {
+        logger.info("GET request: Fetch SQL budget statistics");
+        return ResponseEntity.ok(sqlBudgetMonitor.getStatistics());
+    }
+}
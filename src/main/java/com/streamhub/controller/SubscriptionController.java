@@ -0,0 +1,56 @@
+package com.streamhub.controller;
+
+import com.streamhub.service.SubscriptionRenewalEngine;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+@RestController
+@RequestMapping("/v1")
+public class SubscriptionController {
+
+    private static final Logger logger = Logger.getLogger(SubscriptionController.class.getName());
+    private final SubscriptionRenewalEngine renewalEngine;
+
+    public SubscriptionController(SubscriptionRenewalEngine renewalEngine) {
+        this.renewalEngine = renewalEngine;
+    }
+
+    /**
+     * POST /v1/subscriptions/renewals/run - Start the expiry and renewal run for a date (ISO, default today)
+     * in the background. Starting a date that was already run resumes it from its checkpoints.
+     */
+    @PostMapping("/subscriptions/renewals/run")
+    public ResponseEntity<Map<String, Object>> startRenewalRun(
+            @RequestParam(required = false, name = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate runDate = date != null ? date : LocalDate.now();
+        logger.fine(() -> "POST request: Start subscription renewal run - date=" + runDate);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("runDate", runDate);
+        if (!renewalEngine.start(runDate)) {
+            response.put("status", "already running");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        response.put("status", "started");
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * GET /v1/stats/subscriptions/renewals - Counters and throughput of the current or last renewal run
+     */
+    @GetMapping("/stats/subscriptions/renewals")
+    public ResponseEntity<SubscriptionRenewalEngine.RenewalRunStats> getRenewalStatistics() {
+        logger.info("GET request: Fetch subscription renewal statistics");
+        SubscriptionRenewalEngine.RenewalRunStats stats = renewalEngine.getStatistics();
+        if (stats == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(stats);
+    }
+}
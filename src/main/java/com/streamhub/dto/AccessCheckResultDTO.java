@@ -0,0 +1,37 @@
+package com.streamhub.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the content access check API response
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccessCheckResultDTO {
+    private Long contentId;
+    private Long userId;
+    private Boolean granted;
+
+    /**
+     * GRANTED or DENIED_NO_SUBSCRIPTION, as recorded in access_control_log
+     */
+    private String accessStatus;
+
+    private Long subscriptionId;
+    private Long planId;
+    private String planName;
+    private LocalDateTime validUntil;
+
+    /**
+     * Whether the decision was queued for access_control_log; false if the log buffer dropped it
+     */
+    private Boolean logged;
+}
@@ -0,0 +1,33 @@
+package com.streamhub.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one access control log entry, live or archived.
+ * Archived partitions are stored as one of these per line.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccessLogEntryDTO {
+    private Long id;
+    private Long contentId;
+    private Long userId;
+    private String accessStatus;
+    private String ipAddress;
+    private String userAgent;
+    private LocalDateTime timestamp;
+    private String contentTitleSnapshot;
+
+    /**
+     * True when the entry was read from an archived partition
+     */
+    private Boolean archived;
+}
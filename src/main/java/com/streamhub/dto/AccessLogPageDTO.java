@@ -0,0 +1,28 @@
+package com.streamhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of a user's access history, newest first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccessLogPageDTO {
+    private String status;
+    private Integer page;
+    private Integer pageSize;
+    private Integer count;
+
+    /**
+     * Whether archived months were read to fill the page
+     */
+    private Boolean archiveSearched;
+
+    private List<AccessLogEntryDTO> entries;
+}
@@ -0,0 +1,38 @@
+package com.streamhub.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the bulk content ingestion API response
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkIngestResultDTO {
+    private String status;
+    private Integer received;
+    private Integer inserted;
+    private Integer failed;
+    private Long elapsedMs;
+    private Long rowsPerSecond;
+    private List<RowError> errors;
+
+    /**
+     * A rejected input row, identified by its position in the request
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer index;
+        private String title;
+        private String error;
+    }
+}
@@ -20,6 +20,16 @@ public class CatalogResponseDTO {
     private Integer count;
     private Integer page;
     private Integer total;
+
+    /**
+     * Opaque keyset cursor for the next page, absent on the last page
+     */
+    private String nextCursor;
+
+    /**
+     * Value counts per facet field, present on faceted listings
+     */
+    private Map<String, Map<String, Integer>> facets;
     
     @JsonProperty("categories")
     private Map<String, List<MediaItemDTO>> categories;
@@ -23,4 +23,7 @@ public class MediaItemDTO {
     private String rating;  // PG-13, R, etc.
     private String thumbnailURL;
     private Integer duration;  // Optional: duration in minutes
+    private String streamUrl;  // Optional: only with include=stream
+    private Integer streamDuration;  // Optional: video duration from video_metadata, only with include=stream
+    private Double score;  // Optional: search relevance, only on ranked search results
 }
@@ -0,0 +1,42 @@
+package com.streamhub.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a generated revenue report
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueReportDTO {
+    private Long id;
+    private LocalDate reportPeriodStart;
+    private LocalDate reportPeriodEnd;
+
+    /**
+     * Successful payment amounts of the period, summed across currencies
+     */
+    private BigDecimal totalRevenue;
+
+    /**
+     * Distinct users with a successful payment in the period, estimated from the daily payer sketches
+     */
+    private Integer activeUsersCount;
+
+    private JsonNode metrics;
+    private LocalDateTime generatedDate;
+    private String createdBy;
+
+    /**
+     * Time spent composing the report from rollups, only set on generation
+     */
+    private Long generationMillis;
+}
@@ -2,6 +2,7 @@ package com.streamhub.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class Content {
 
     @Id
@@ -50,9 +52,10 @@ public class Content {
     @Column(columnDefinition = "ENUM('ACTIVE', 'ARCHIVED', 'DRAFT') DEFAULT 'ACTIVE'")
     private String status;
 
+    // Left null on new instances so Spring Data treats them as new and persists them; Hibernate seeds it on insert
+    @Version
     @Column(name = "version_id")
-    @Builder.Default
-    private Integer versionId = 1;
+    private Integer versionId;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -66,6 +69,7 @@ public class Content {
     @Column(name = "updated_by", length = 255)
     private String updatedBy;
 
+    // LAZY is not honoured on this inverse side without bytecode enhancement; ContentRepository fetches it by join
     @OneToOne(mappedBy = "content", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @ToString.Exclude
     private VideoMetadata videoMetadata;
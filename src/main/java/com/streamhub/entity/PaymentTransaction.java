@@ -1,5 +1,6 @@
 package com.streamhub.entity;
 
+import com.streamhub.entity.listener.PaymentTransactionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import java.math.BigDecimal;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(PaymentTransactionListener.class)
 public class PaymentTransaction {
 
     @Id
@@ -26,6 +28,12 @@ public class PaymentTransaction {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
+    /**
+     * Plan of the subscription when the payment was created; revenue rollups book the payment under it
+     */
+    @Column(name = "plan_id", updatable = false)
+    private Long planId;
+
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
 
@@ -61,8 +69,27 @@ public class PaymentTransaction {
     @ToString.Exclude
     private AppUser appUser;
 
+    /**
+     * Status and amount as last loaded or written, so revenue rollups can move an updated payment between buckets
+     */
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String rolledUpStatus;
+
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private BigDecimal rolledUpAmount;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
     }
+
+    @PostLoad
+    protected void onLoad() {
+        this.rolledUpStatus = transactionStatus;
+        this.rolledUpAmount = amount;
+    }
 }
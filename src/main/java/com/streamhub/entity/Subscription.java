@@ -1,5 +1,6 @@
 package com.streamhub.entity;
 
+import com.streamhub.entity.listener.SubscriptionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(SubscriptionListener.class)
 public class Subscription {
 
     @Id
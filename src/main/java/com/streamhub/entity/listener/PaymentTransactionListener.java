@@ -0,0 +1,51 @@
+package com.streamhub.entity.listener;
+
+import com.streamhub.entity.PaymentTransaction;
+import com.streamhub.service.EntitlementService;
+import com.streamhub.service.RevenueRollupService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener of payment_transaction: maintains the revenue rollups and drops the payer's cached
+ * entitlement. Instantiated by Spring through Hibernate's bean container.
+ */
+@Component
+public class PaymentTransactionListener {
+
+    private final RevenueRollupService revenueRollupService;
+    private final EntitlementService entitlementService;
+
+    public PaymentTransactionListener(@Lazy RevenueRollupService revenueRollupService,
+                                      @Lazy EntitlementService entitlementService) {
+        this.revenueRollupService = revenueRollupService;
+        this.entitlementService = entitlementService;
+    }
+
+    @PrePersist
+    public void beforeInsert(PaymentTransaction payment) {
+        revenueRollupService.assignPlan(payment);
+    }
+
+    @PostPersist
+    public void onInsert(PaymentTransaction payment) {
+        revenueRollupService.onInsert(payment);
+        entitlementService.invalidateAfterCommit(payment.getUserId());
+    }
+
+    @PostUpdate
+    public void onUpdate(PaymentTransaction payment) {
+        revenueRollupService.onUpdate(payment);
+        entitlementService.invalidateAfterCommit(payment.getUserId());
+    }
+
+    @PostRemove
+    public void onDelete(PaymentTransaction payment) {
+        revenueRollupService.onDelete(payment);
+        entitlementService.invalidateAfterCommit(payment.getUserId());
+    }
+}
@@ -0,0 +1,30 @@
+package com.streamhub.entity.listener;
+
+import com.streamhub.entity.Subscription;
+import com.streamhub.service.EntitlementService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that drops the subscriber's cached entitlement after a subscription change commits.
+ * Instantiated by Spring through Hibernate's bean container.
+ */
+@Component
+public class SubscriptionListener {
+
+    private final EntitlementService entitlementService;
+
+    public SubscriptionListener(@Lazy EntitlementService entitlementService) {
+        this.entitlementService = entitlementService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Subscription subscription) {
+        entitlementService.invalidateAfterCommit(subscription.getUserId());
+    }
+}
@@ -3,7 +3,9 @@ package com.streamhub.mapper;
 import com.streamhub.dto.CatalogResponseDTO;
 import com.streamhub.dto.MediaItemDTO;
 import com.streamhub.entity.Content;
+import com.streamhub.repository.projection.CatalogItemView;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +33,24 @@ public class ContentMapper {
             .build();
     }
 
+    /**
+     * Convert a projected catalog row to MediaItemDTO
+     */
+    public static MediaItemDTO toMediaItemDTO(CatalogItemView item) {
+        return MediaItemDTO.builder()
+            .title(item.title())
+            .description(item.description())
+            .genre(item.genre())
+            .language(item.language())
+            .type(item.contentType())
+            .rating(item.rating())
+            .thumbnailURL(item.thumbnailURL())
+            .duration(item.duration())
+            .streamUrl(item.streamUrl())
+            .streamDuration(item.streamDuration())
+            .build();
+    }
+
     /**
      * Convert Page of Content entities to CatalogResponseDTO
      */
@@ -38,7 +58,38 @@ public class ContentMapper {
         List<MediaItemDTO> mediaItems = contentPage.getContent().stream()
             .map(ContentMapper::toMediaItemDTO)
             .collect(Collectors.toList());
-        
+        return toCatalogResponseDTO(mediaItems, requestedPage, (int) contentPage.getTotalElements(), null);
+    }
+
+    /**
+     * Convert a Page or keyset Slice of catalog rows to CatalogResponseDTO.
+     * The total is only filled in for a Page, slices are served without a COUNT query.
+     */
+    public static CatalogResponseDTO toCatalogResponseDTO(Slice<CatalogItemView> itemPage, int requestedPage,
+                                                          String nextCursor) {
+        List<MediaItemDTO> mediaItems = itemPage.getContent().stream()
+            .map(ContentMapper::toMediaItemDTO)
+            .collect(Collectors.toList());
+        Integer total = itemPage instanceof Page<CatalogItemView> page ? (int) page.getTotalElements() : null;
+        return toCatalogResponseDTO(mediaItems, requestedPage, total, nextCursor);
+    }
+
+    /**
+     * Convert a ranked search Page to CatalogResponseDTO, attaching each item's relevance score
+     */
+    public static CatalogResponseDTO toScoredCatalogResponseDTO(Page<CatalogItemView> itemPage, int requestedPage,
+                                                                Map<Long, Double> scores) {
+        CatalogResponseDTO response = toCatalogResponseDTO(itemPage, requestedPage, null);
+        List<MediaItemDTO> mediaItems = response.getCategories().get("media");
+        List<CatalogItemView> rows = itemPage.getContent();
+        for (int i = 0; i < rows.size(); i++) {
+            mediaItems.get(i).setScore(scores.get(rows.get(i).id()));
+        }
+        return response;
+    }
+
+    private static CatalogResponseDTO toCatalogResponseDTO(List<MediaItemDTO> mediaItems, int requestedPage,
+                                                           Integer total, String nextCursor) {
         Map<String, List<MediaItemDTO>> categories = new HashMap<>();
         categories.put("media", mediaItems);
         
@@ -46,7 +97,8 @@ public class ContentMapper {
             .status("success")
             .count(mediaItems.size())
             .page(requestedPage)
-            .total((int) contentPage.getTotalElements())
+            .total(total)
+            .nextCursor(nextCursor)
             .categories(categories)
             .build();
     }
@@ -0,0 +1,95 @@
+package com.streamhub.repository;
+
+import com.streamhub.entity.AccessControlLog;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC batch inserts for access control log entries.
+ * With rewriteBatchedStatements=true on the JDBC URL each batch is sent as multi-row INSERT statements.
+ */
+@Repository
+public class AccessControlLogBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO access_control_log (content_id, user_id, access_status, "
+        + "ip_address, user_agent, timestamp, content_title_snapshot) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccessControlLogBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert the entries as one JDBC batch; entries without a timestamp are stamped now.
+     * Missing title snapshots are filled with one IN query per batch, and entries whose content
+     * no longer exists are skipped, since the partitioned table cannot enforce a foreign key.
+     *
+     * @return number of entries inserted
+     */
+    public int insertBatch(List<AccessControlLog> batch) {
+        List<AccessControlLog> entries = withTitleSnapshots(batch);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AccessControlLog entry = entries.get(i);
+                ps.setLong(1, entry.getContentId());
+                ps.setLong(2, entry.getUserId());
+                ps.setString(3, entry.getAccessStatus());
+                ps.setString(4, entry.getIpAddress());
+                ps.setString(5, entry.getUserAgent());
+                ps.setTimestamp(6, entry.getTimestamp() != null ? Timestamp.valueOf(entry.getTimestamp()) : now);
+                ps.setString(7, entry.getContentTitleSnapshot());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+        return entries.size();
+    }
+
+    private List<AccessControlLog> withTitleSnapshots(List<AccessControlLog> batch) {
+        Set<Long> contentIds = new HashSet<>();
+        for (AccessControlLog entry : batch) {
+            contentIds.add(entry.getContentId());
+        }
+        String placeholders = String.join(", ", Collections.nCopies(contentIds.size(), "?"));
+        Map<Long, String> titles = new HashMap<>();
+        jdbcTemplate.query("SELECT id, title FROM content WHERE id IN (" + placeholders + ")",
+            rs -> {
+                titles.put(rs.getLong(1), rs.getString(2));
+            },
+            contentIds.toArray());
+
+        List<AccessControlLog> entries = new ArrayList<>(batch.size());
+        for (AccessControlLog entry : batch) {
+            if (!titles.containsKey(entry.getContentId())) {
+                continue;
+            }
+            if (entry.getContentTitleSnapshot() == null) {
+                entry.setContentTitleSnapshot(titles.get(entry.getContentId()));
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+}
@@ -1,9 +1,12 @@
 package com.streamhub.repository;
 
 import com.streamhub.entity.AccessControlLog;
+import com.streamhub.repository.projection.AccessEventView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,6 +17,13 @@ public interface AccessControlLogRepository extends JpaRepository<AccessControlL
     Page<AccessControlLog> findByContentId(Long contentId, Pageable pageable);
     Page<AccessControlLog> findByUserId(Long userId, Pageable pageable);
     Page<AccessControlLog> findByAccessStatus(String status, Pageable pageable);
-    List<AccessControlLog> findByUserIdAndTimestampBetween(Long userId, LocalDateTime start, LocalDateTime end);
+    Page<AccessControlLog> findByUserIdAndTimestampBetween(Long userId, LocalDateTime start, LocalDateTime end,
+                                                           Pageable pageable);
     List<AccessControlLog> findByContentIdAndAccessStatus(Long contentId, String status);
+
+    @Query("SELECT new com.streamhub.repository.projection.AccessEventView(a.id, a.contentId, a.timestamp) " +
+           "FROM AccessControlLog a WHERE a.id > :afterId AND a.accessStatus = 'GRANTED' " +
+           "AND a.timestamp >= :since ORDER BY a.id")
+    List<AccessEventView> findGrantedEventsSince(@Param("afterId") long afterId, @Param("since") LocalDateTime since,
+                                                 Pageable pageable);
 }
@@ -0,0 +1,89 @@
+package com.streamhub.repository;
+
+import com.streamhub.entity.Content;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC batch inserts for content.
+ * Content ids use IDENTITY generation, which disables Hibernate insert batching, so bulk loads bypass JPA.
+ * With rewriteBatchedStatements=true on the JDBC URL each batch is sent as multi-row INSERT statements.
+ */
+@Repository
+public class ContentBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO content (title, description, content_type, genre, language, "
+        + "metadata, rating, thumbnail_url, duration, status, version_id, created_at, updated_at, created_by, updated_by) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContentBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert the rows as one JDBC batch and set the generated id, audit timestamps and defaults on each
+     */
+    public void insertBatch(List<Content> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keys = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Content content = rows.get(i);
+                    ps.setString(1, content.getTitle());
+                    ps.setString(2, content.getDescription());
+                    ps.setString(3, content.getContentType());
+                    ps.setString(4, content.getGenre());
+                    ps.setString(5, content.getLanguage());
+                    ps.setString(6, content.getMetadata());
+                    ps.setString(7, content.getRating());
+                    ps.setString(8, content.getThumbnailURL());
+                    if (content.getDuration() != null) {
+                        ps.setInt(9, content.getDuration());
+                    } else {
+                        ps.setNull(9, Types.INTEGER);
+                    }
+                    ps.setString(10, content.getStatus() != null ? content.getStatus() : "ACTIVE");
+                    ps.setInt(11, content.getVersionId() != null ? content.getVersionId() : 1);
+                    ps.setTimestamp(12, timestamp);
+                    ps.setTimestamp(13, timestamp);
+                    ps.setString(14, content.getCreatedBy());
+                    ps.setString(15, content.getUpdatedBy());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            },
+            keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < rows.size() && i < generated.size(); i++) {
+            Content content = rows.get(i);
+            Object id = generated.get(i).values().iterator().next();
+            content.setId(((Number) id).longValue());
+            content.setCreatedAt(now);
+            content.setUpdatedAt(now);
+            content.setStatus(content.getStatus() != null ? content.getStatus() : "ACTIVE");
+        }
+    }
+}
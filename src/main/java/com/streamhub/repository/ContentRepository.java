@@ -1,31 +1,99 @@
 package com.streamhub.repository;
 
 import com.streamhub.entity.Content;
+import com.streamhub.repository.projection.ContentFacetView;
+import com.streamhub.repository.projection.ContentPatchStateView;
+import com.streamhub.repository.projection.ContentScoreView;
+import com.streamhub.repository.projection.ContentSearchView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ContentRepository extends JpaRepository<Content, Long> {
+public interface ContentRepository extends JpaRepository<Content, Long>, ContentRepositoryCustom {
 
+    // Content.videoMetadata is the inverse side of a one-to-one, which Hibernate loads with one SELECT per row
+    // unless it is fetched with the row, so every query returning Content entities joins it through an entity graph
+
+    @Override
+    @EntityGraph(attributePaths = "videoMetadata")
+    Optional<Content> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "videoMetadata")
+    Page<Content> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "videoMetadata")
     Page<Content> findByContentType(String contentType, Pageable pageable);
 
+    @EntityGraph(attributePaths = "videoMetadata")
     Page<Content> findByStatus(String status, Pageable pageable);
 
+    @EntityGraph(attributePaths = "videoMetadata")
     Page<Content> findByGenre(String genre, Pageable pageable);
 
+    @EntityGraph(attributePaths = "videoMetadata")
     List<Content> findByCreatedAtAfter(LocalDateTime date);
 
+    @EntityGraph(attributePaths = "videoMetadata")
     @Query("SELECT c FROM Content c WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Content> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
 
+    @Query(value = "SELECT c.id AS id, MATCH(c.title, c.genre) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+                   "FROM content c WHERE MATCH(c.title, c.genre) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+                   "ORDER BY score DESC, c.id DESC",
+           countQuery = "SELECT COUNT(*) FROM content c WHERE MATCH(c.title, c.genre) AGAINST (:query IN NATURAL LANGUAGE MODE)",
+           nativeQuery = true)
+    Page<ContentScoreView> searchFullText(@Param("query") String query, Pageable pageable);
+
+    @Query(value = "SELECT c.id AS id, MATCH(c.title, c.genre) AGAINST (:query IN BOOLEAN MODE) AS score " +
+                   "FROM content c WHERE MATCH(c.title, c.genre) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY score DESC, c.id DESC",
+           countQuery = "SELECT COUNT(*) FROM content c WHERE MATCH(c.title, c.genre) AGAINST (:query IN BOOLEAN MODE)",
+           nativeQuery = true)
+    Page<ContentScoreView> searchFullTextBoolean(@Param("query") String query, Pageable pageable);
+
+    @Query("SELECT c.id AS id, c.title AS title, c.genre AS genre, c.description AS description " +
+           "FROM Content c WHERE c.id > :afterId ORDER BY c.id")
+    List<ContentSearchView> findSearchDocuments(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT c.id AS id, c.contentType AS contentType, c.genre AS genre, c.language AS language, " +
+           "c.rating AS rating, c.status AS status FROM Content c WHERE c.id > :afterId ORDER BY c.id")
+    List<ContentFacetView> findFacetDocuments(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT c.versionId FROM Content c WHERE c.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.streamhub.repository.projection.ContentPatchStateView(" +
+           "c.title, c.description, c.status, c.contentType, c.genre, c.language, c.rating) " +
+           "FROM Content c WHERE c.id = :id AND c.versionId = :version")
+    Optional<ContentPatchStateView> findPatchState(@Param("id") Long id, @Param("version") int version);
+
     long countByStatus(String status);
 
+    @Query("SELECT c.status, COUNT(c) FROM Content c GROUP BY c.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT c.contentType, COUNT(c) FROM Content c GROUP BY c.contentType")
+    List<Object[]> countGroupedByContentType();
+
+    @Query("SELECT c.genre, COUNT(c) FROM Content c GROUP BY c.genre")
+    List<Object[]> countGroupedByGenre();
+
+    @Query("SELECT c.language, COUNT(c) FROM Content c GROUP BY c.language")
+    List<Object[]> countGroupedByLanguage();
+
     boolean existsByTitle(String title);
+
+    @Query("SELECT c.title FROM Content c WHERE c.title IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
 }
@@ -0,0 +1,86 @@
+package com.streamhub.repository;
+
+import com.streamhub.repository.projection.CatalogItemShape;
+import com.streamhub.repository.projection.CatalogItemView;
+import com.streamhub.repository.projection.ContentExportView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Custom Content queries that cannot be expressed as derived query methods.
+ * Listings select only the {@link CatalogItemView} columns of the requested {@link CatalogItemShape}.
+ */
+public interface ContentRepositoryCustom {
+
+    /**
+     * Properties a listing may be ordered by; sortBy is user input and is spliced into JPQL
+     */
+    Set<String> SORTABLE_PROPERTIES = Set.of(
+        "id", "title", "contentType", "genre", "language", "rating", "duration", "status", "createdAt", "updatedAt");
+
+    /**
+     * Offset page of catalog rows with a total count, ordered by the pageable's sort and then by id
+     *
+     * @param contentType optional content type filter
+     * @param genre optional genre filter
+     * @param keyword optional title keyword filter
+     * @param shape columns to read
+     * @param pageable page and sort
+     */
+    Page<CatalogItemView> findCatalogItems(String contentType, String genre, String keyword,
+                                           CatalogItemShape shape, Pageable pageable);
+
+    /**
+     * Keyset (seek) page of catalog rows ordered by (sortBy, id).
+     * Rows strictly after (afterKey, afterId) in the requested direction are returned,
+     * so the cost does not grow with page depth and no COUNT query is issued.
+     *
+     * @param contentType optional content type filter
+     * @param genre optional genre filter
+     * @param keyword optional title keyword filter
+     * @param shape columns to read
+     * @param sortBy indexed sort property (createdAt or id)
+     * @param direction sort direction
+     * @param afterKey sort key of the last row already seen, null for the first page or a row without one
+     * @param afterId id of the last row already seen, or null for the first page
+     * @param limit page size
+     */
+    Slice<CatalogItemView> findCatalogItemSlice(String contentType, String genre, String keyword, CatalogItemShape shape,
+                                                String sortBy, Sort.Direction direction,
+                                                Object afterKey, Long afterId, int limit);
+
+    /**
+     * Stream every content row matching the filters in id order from a server-side cursor, on a connection
+     * of the export pool (see {@link com.streamhub.config.ExportDataSource}). Needs no transaction; the
+     * caller must close the stream, which returns the connection.
+     *
+     * @param contentType optional content type filter
+     * @param genre optional genre filter
+     * @param status optional status filter
+     * @param fetchSize rows fetched from MySQL per round trip
+     */
+    Stream<ContentExportView> streamExport(String contentType, String genre, String status, int fetchSize);
+
+    /**
+     * Catalog rows for the given ids, in no particular order
+     */
+    List<CatalogItemView> findCatalogItemsByIds(Collection<Long> ids, CatalogItemShape shape);
+
+    /**
+     * Conditional partial update: set only the given properties, bump the version and stamp updatedAt,
+     * provided the row is still at the expected version. Bypasses the persistence context.
+     *
+     * @param values new values keyed by entity property; keys must be validated by the caller
+     * @return 1 if the row was updated, 0 if it does not exist or is at another version
+     */
+    int patch(Long id, int expectedVersion, Map<String, Object> values, LocalDateTime updatedAt);
+}
@@ -0,0 +1,249 @@
+package com.streamhub.repository;
+
+import com.streamhub.config.ExportDataSource;
+import com.streamhub.repository.projection.CatalogItemShape;
+import com.streamhub.repository.projection.CatalogItemView;
+import com.streamhub.repository.projection.ContentExportView;
+import com.streamhub.service.CatalogCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * JPQL implementation of {@link ContentRepositoryCustom}
+ */
+public class ContentRepositoryCustomImpl implements ContentRepositoryCustom {
+
+    private static final String FULL_ROW = "SELECT new com.streamhub.repository.projection.CatalogItemView("
+        + "c.id, c.createdAt, c.title, c.description, c.genre, c.language, c.contentType, c.rating, "
+        + "c.thumbnailURL, c.duration) FROM Content c";
+
+    private static final String COMPACT_ROW = "SELECT new com.streamhub.repository.projection.CatalogItemView("
+        + "c.id, c.createdAt, c.title, c.genre, c.language, c.contentType, c.rating, c.duration) FROM Content c";
+
+    private static final String FULL_ROW_WITH_STREAM = "SELECT new com.streamhub.repository.projection.CatalogItemView("
+        + "c.id, c.createdAt, c.title, c.description, c.genre, c.language, c.contentType, c.rating, "
+        + "c.thumbnailURL, c.duration, v.streamUrl, v.duration) FROM Content c LEFT JOIN c.videoMetadata v";
+
+    private static final String COMPACT_ROW_WITH_STREAM = "SELECT new com.streamhub.repository.projection.CatalogItemView("
+        + "c.id, c.createdAt, c.title, c.genre, c.language, c.contentType, c.rating, c.duration, "
+        + "v.streamUrl, v.duration) FROM Content c LEFT JOIN c.videoMetadata v";
+
+    private static final String EXPORT_ROW = "SELECT new com.streamhub.repository.projection.ContentExportView("
+        + "c.id, c.title, c.description, c.contentType, c.genre, c.language, c.metadata, c.rating, c.thumbnailURL, "
+        + "c.duration, c.status, c.versionId, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) FROM Content c";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ExportDataSource exportDataSource;
+
+    public ContentRepositoryCustomImpl(ExportDataSource exportDataSource) {
+        this.exportDataSource = exportDataSource;
+    }
+
+    @Override
+    public Page<CatalogItemView> findCatalogItems(String contentType, String genre, String keyword,
+                                                  CatalogItemShape shape, Pageable pageable) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(contentType, genre, keyword, null, params);
+
+        StringBuilder jpql = new StringBuilder(select(shape)).append(where).append(" ORDER BY ");
+        // Ties on the sort keys are broken by id, so rows with equal keys cannot move between offset pages
+        String idDirection = " ASC";
+        for (Sort.Order order : pageable.getSort()) {
+            if ("id".equals(order.getProperty())) {
+                break;
+            }
+            idDirection = order.isAscending() ? " ASC" : " DESC";
+            jpql.append("c.").append(sortProperty(order.getProperty())).append(idDirection).append(", ");
+        }
+        Sort.Order byId = pageable.getSort().getOrderFor("id");
+        jpql.append("c.id").append(byId != null ? (byId.isAscending() ? " ASC" : " DESC") : idDirection);
+
+        TypedQuery<CatalogItemView> query = entityManager.createQuery(jpql.toString(), CatalogItemView.class);
+        params.forEach(query::setParameter);
+        List<CatalogItemView> rows = query
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+
+        // The COUNT query is skipped when the page itself reveals the total
+        return PageableExecutionUtils.getPage(rows, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(c) FROM Content c" + where, Long.class);
+            params.forEach(count::setParameter);
+            return count.getSingleResult();
+        });
+    }
+
+    @Override
+    public Slice<CatalogItemView> findCatalogItemSlice(String contentType, String genre, String keyword,
+                                                       CatalogItemShape shape,
+                                                       String sortBy, Sort.Direction direction,
+                                                       Object afterKey, Long afterId, int limit) {
+        if (!CatalogCursor.isSeekable(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination is not supported for sortBy: " + sortBy);
+        }
+
+        boolean byId = "id".equals(sortBy);
+        String dir = direction.isAscending() ? "ASC" : "DESC";
+        String cmp = direction.isAscending() ? ">" : "<";
+
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(select(shape))
+            .append(where(contentType, genre, keyword, null, params));
+        if (afterId != null) {
+            if (byId) {
+                jpql.append(" AND c.id ").append(cmp).append(" :afterId");
+            } else if (afterKey == null) {
+                // NULL sort keys come first ascending and last descending, as MySQL orders them
+                jpql.append(direction.isAscending()
+                    ? " AND (c." + sortBy + " IS NOT NULL OR c.id > :afterId)"
+                    : " AND c." + sortBy + " IS NULL AND c.id < :afterId");
+            } else {
+                jpql.append(" AND (c.").append(sortBy).append(' ').append(cmp).append(" :afterKey")
+                    .append(" OR (c.").append(sortBy).append(" = :afterKey AND c.id ").append(cmp).append(" :afterId)");
+                if (!direction.isAscending()) {
+                    jpql.append(" OR c.").append(sortBy).append(" IS NULL");
+                }
+                jpql.append(')');
+                params.put("afterKey", afterKey);
+            }
+            params.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY ");
+        if (!byId) {
+            jpql.append("c.").append(sortBy).append(' ').append(dir).append(", ");
+        }
+        jpql.append("c.id ").append(dir);
+
+        TypedQuery<CatalogItemView> query = entityManager.createQuery(jpql.toString(), CatalogItemView.class);
+        params.forEach(query::setParameter);
+
+        // Fetch one extra row to know whether another slice follows
+        List<CatalogItemView> rows = query.setMaxResults(limit + 1).getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<CatalogItemView> content = hasNext ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, limit), hasNext);
+    }
+
+    @Override
+    public Stream<ContentExportView> streamExport(String contentType, String genre, String status, int fetchSize) {
+        Map<String, Object> params = new HashMap<>();
+        String jpql = EXPORT_ROW + where(contentType, genre, null, status, params) + " ORDER BY c.id";
+
+        Connection connection;
+        try {
+            connection = exportDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException("No export connection available: " + e.getMessage(), e);
+        }
+        // A stateless session on the export connection: rows are never managed and nothing is cached
+        StatelessSession session = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .withStatelessOptions().connection(connection).openStatelessSession();
+        Runnable release = () -> {
+            session.close();
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // The pool discards a connection it cannot return
+            }
+        };
+        try {
+            org.hibernate.query.Query<ContentExportView> query = session.createQuery(jpql, ContentExportView.class)
+                .setFetchSize(fetchSize);
+            params.forEach(query::setParameter);
+            return query.getResultStream().onClose(release);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<CatalogItemView> findCatalogItemsByIds(Collection<Long> ids, CatalogItemShape shape) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(select(shape) + " WHERE c.id IN :ids", CatalogItemView.class)
+            .setParameter("ids", ids)
+            .getResultList();
+    }
+
+    @Override
+    public int patch(Long id, int expectedVersion, Map<String, Object> values, LocalDateTime updatedAt) {
+        StringBuilder jpql = new StringBuilder("UPDATE Content c SET");
+        Map<String, Object> params = new HashMap<>();
+        int index = 0;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            String param = "v" + index++;
+            jpql.append(" c.").append(entry.getKey()).append(" = :").append(param).append(',');
+            params.put(param, entry.getValue());
+        }
+        jpql.append(" c.versionId = c.versionId + 1, c.updatedAt = :updatedAt WHERE c.id = :id AND c.versionId = :version");
+
+        Query query = entityManager.createQuery(jpql.toString())
+            .setParameter("updatedAt", updatedAt)
+            .setParameter("id", id)
+            .setParameter("version", expectedVersion);
+        params.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    private static String where(String contentType, String genre, String keyword, String status,
+                                Map<String, Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (contentType != null) {
+            where.append(" AND c.contentType = :contentType");
+            params.put("contentType", contentType);
+        }
+        if (genre != null) {
+            where.append(" AND c.genre = :genre");
+            params.put("genre", genre);
+        }
+        if (keyword != null) {
+            where.append(" AND LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%'))");
+            params.put("keyword", keyword);
+        }
+        if (status != null) {
+            where.append(" AND c.status = :status");
+            params.put("status", status);
+        }
+        return where.toString();
+    }
+
+    private static String select(CatalogItemShape shape) {
+        return switch (shape) {
+            case FULL -> FULL_ROW;
+            case COMPACT -> COMPACT_ROW;
+            case FULL_WITH_STREAM -> FULL_ROW_WITH_STREAM;
+            case COMPACT_WITH_STREAM -> COMPACT_ROW_WITH_STREAM;
+        };
+    }
+
+    private static String sortProperty(String property) {
+        if (!SORTABLE_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Unsupported sortBy: " + property);
+        }
+        return property;
+    }
+}
@@ -0,0 +1,183 @@
+package com.streamhub.repository;
+
+import com.streamhub.util.HyperLogLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC access to the daily revenue rollups and payer sketches.
+ * Deltas are applied with single-statement upserts, so concurrent payments on the same day
+ * never read-modify-write a row.
+ */
+@Repository
+public class RevenueRollupRepository {
+
+    /**
+     * Register count of the stored payer sketches is 2^11, matching VARBINARY(2048)
+     */
+    public static final int PAYER_SKETCH_PRECISION = 11;
+
+    private static final String UPSERT_ROLLUP_SQL = "INSERT INTO revenue_daily_rollup (rollup_date, currency, plan_id, "
+        + "transaction_status, transaction_count, total_amount) "
+        + "SELECT ?, ?, COALESCE(?, s.plan_id), ?, ?, ? FROM subscription s WHERE s.id = ? "
+        + "ON DUPLICATE KEY UPDATE transaction_count = transaction_count + ?, total_amount = total_amount + ?";
+
+    // Raise one register in place: byte i+1 of the sketch becomes max(current, rank)
+    private static final String UPSERT_PAYER_SQL = "INSERT INTO revenue_daily_payers (rollup_date, payer_sketch) VALUES (?, ?) "
+        + "ON DUPLICATE KEY UPDATE payer_sketch = INSERT(payer_sketch, ?, 1, "
+        + "CHAR(GREATEST(ASCII(SUBSTRING(payer_sketch, ?, 1)), ?)))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RevenueRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add a signed count and amount to the bucket of a payment's day, currency, plan and status.
+     * A null plan (payments created before plan_id was recorded) falls back to the subscription's current plan.
+     */
+    public void applyDelta(LocalDate day, String currency, long subscriptionId, Long planId, String status, int count,
+                           BigDecimal amount) {
+        jdbcTemplate.update(UPSERT_ROLLUP_SQL, Date.valueOf(day), currency, planId, status, count, amount, subscriptionId,
+            count, amount);
+    }
+
+    /**
+     * Current plan of a subscription, or null if it does not exist
+     */
+    public Long subscriptionPlan(long subscriptionId) {
+        List<Long> plans = jdbcTemplate.queryForList("SELECT plan_id FROM subscription WHERE id = ?", Long.class,
+            subscriptionId);
+        return plans.isEmpty() ? null : plans.get(0);
+    }
+
+    /**
+     * Apply several deltas as one JDBC batch, for payments inserted without going through JPA
+     */
+    public void applyDeltas(List<RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        for (RollupDelta delta : deltas) {
+            rows.add(new Object[] {Date.valueOf(delta.day()), delta.currency(), delta.planId(), delta.status(), delta.count(),
+                delta.amount(), delta.subscriptionId(), delta.count(), delta.amount()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, rows);
+    }
+
+    /**
+     * Add a user to the day's payer sketch
+     */
+    public void addPayer(LocalDate day, long userId) {
+        HyperLogLog single = new HyperLogLog(PAYER_SKETCH_PRECISION);
+        single.add(userId);
+        int position = single.register(userId) + 1;
+        jdbcTemplate.update(UPSERT_PAYER_SQL, Date.valueOf(day), single.toBytes(), position, position, single.rank(userId));
+    }
+
+    /**
+     * Rollup rows of a period summed per currency, plan and status
+     */
+    public List<RollupTotal> sumByBucket(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            "SELECT currency, plan_id, transaction_status, SUM(transaction_count), SUM(total_amount) "
+                + "FROM revenue_daily_rollup WHERE rollup_date BETWEEN ? AND ? "
+                + "GROUP BY currency, plan_id, transaction_status",
+            (rs, rowNum) -> new RollupTotal(rs.getString(1), rs.getLong(2), rs.getString(3), rs.getLong(4), rs.getBigDecimal(5)),
+            Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * Union of the payer sketches of a period
+     */
+    public HyperLogLog mergePayers(LocalDate from, LocalDate to) {
+        HyperLogLog merged = new HyperLogLog(PAYER_SKETCH_PRECISION);
+        jdbcTemplate.query("SELECT payer_sketch FROM revenue_daily_payers WHERE rollup_date BETWEEN ? AND ?",
+            rs -> {
+                merged.merge(HyperLogLog.fromBytes(rs.getBytes(1)));
+            },
+            Date.valueOf(from), Date.valueOf(to));
+        return merged;
+    }
+
+    /**
+     * Day a stored payment was recorded on, for updates of detached instances without createdAt
+     */
+    public LocalDate paymentDay(long paymentId) {
+        return jdbcTemplate.queryForObject("SELECT DATE(created_at) FROM payment_transaction WHERE id = ?",
+            Date.class, paymentId).toLocalDate();
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM revenue_daily_rollup LIMIT 1", Integer.class).isEmpty();
+    }
+
+    /**
+     * Recompute the rollups and payer sketches of a period from payment_transaction.
+     * Must run inside a transaction so readers never see the period half rebuilt. The payer query reads every
+     * distinct (day, user) of the period into memory, so callers keep the period short (a day at a time).
+     *
+     * @return number of rollup rows written
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        jdbcTemplate.update("DELETE FROM revenue_daily_rollup WHERE rollup_date BETWEEN ? AND ?", Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.update("DELETE FROM revenue_daily_payers WHERE rollup_date BETWEEN ? AND ?", Date.valueOf(from), Date.valueOf(to));
+
+        int rows = jdbcTemplate.update("INSERT INTO revenue_daily_rollup (rollup_date, currency, plan_id, "
+                + "transaction_status, transaction_count, total_amount) "
+                + "SELECT DATE(p.created_at), COALESCE(p.currency, 'USD'), COALESCE(p.plan_id, s.plan_id), p.transaction_status, "
+                + "COUNT(*), SUM(p.amount) "
+                + "FROM payment_transaction p JOIN subscription s ON s.id = p.subscription_id "
+                + "WHERE p.created_at >= ? AND p.created_at < ? "
+                + "GROUP BY DATE(p.created_at), COALESCE(p.currency, 'USD'), COALESCE(p.plan_id, s.plan_id), p.transaction_status",
+            start, end);
+
+        Map<LocalDate, HyperLogLog> payers = new HashMap<>();
+        jdbcTemplate.query("SELECT DISTINCT DATE(created_at), user_id FROM payment_transaction "
+                + "WHERE transaction_status = 'SUCCESS' AND created_at >= ? AND created_at < ?",
+            rs -> {
+                payers.computeIfAbsent(rs.getDate(1).toLocalDate(), day -> new HyperLogLog(PAYER_SKETCH_PRECISION))
+                    .add(rs.getLong(2));
+            },
+            start, end);
+        List<Object[]> sketches = new ArrayList<>(payers.size());
+        payers.forEach((day, sketch) -> sketches.add(new Object[] {Date.valueOf(day), sketch.toBytes()}));
+        if (!sketches.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO revenue_daily_payers (rollup_date, payer_sketch) VALUES (?, ?)", sketches);
+        }
+        return rows;
+    }
+
+    /**
+     * Earliest and latest payment day, or null when there are no payments
+     */
+    public LocalDate[] paymentDayRange() {
+        return jdbcTemplate.query("SELECT DATE(MIN(created_at)), DATE(MAX(created_at)) FROM payment_transaction",
+            rs -> {
+                if (!rs.next() || rs.getDate(1) == null) {
+                    return null;
+                }
+                return new LocalDate[] {rs.getDate(1).toLocalDate(), rs.getDate(2).toLocalDate()};
+            });
+    }
+
+    public record RollupDelta(LocalDate day, String currency, long subscriptionId, Long planId, String status, int count,
+                              BigDecimal amount) {
+    }
+
+    public record RollupTotal(String currency, long planId, String status, long transactionCount, BigDecimal totalAmount) {
+    }
+}
@@ -1,13 +1,23 @@
 package com.streamhub.repository;
 
 import com.streamhub.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    /**
+     * Served from the query cache until a write to role invalidates it
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference_queries")
+    })
     Optional<Role> findByRoleName(String roleName);
     boolean existsByRoleName(String roleName);
 }
@@ -0,0 +1,206 @@
+package com.streamhub.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC access for the subscription expiry and renewal run: keyset-ordered scans of due subscriptions,
+ * set-based status transitions, batched renewal payments and the run checkpoints.
+ */
+@Repository
+public class SubscriptionRenewalRepository {
+
+    private static final String DUE_CONDITION =
+        "((s.status = 'ACTIVE' AND s.end_date < ?) OR (s.status = 'PAST_DUE' AND s.end_date < ?))";
+
+    private static final String INSERT_RENEWAL_SQL = "INSERT INTO payment_transaction (subscription_id, user_id, plan_id, "
+        + "amount, currency, payment_method, transaction_status, created_at, created_by) "
+        + "VALUES (?, ?, ?, ?, ?, ?, 'PENDING', ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SubscriptionRenewalRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Lowest and highest subscription id, or null when there are no subscriptions
+     */
+    public long[] idRange() {
+        return jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM subscription", rs -> {
+            if (!rs.next() || rs.getObject(1) == null) {
+                return null;
+            }
+            return new long[] {rs.getLong(1), rs.getLong(2)};
+        });
+    }
+
+    /**
+     * Next chunk of due subscriptions with id in (afterId, rangeEnd], in id order, without locking.
+     * Active subscriptions are due once their end date has passed; past-due ones once the grace period has too.
+     */
+    public List<DueSubscription> findDue(long afterId, long rangeEnd, LocalDate today, LocalDate graceCutoff, int limit) {
+        return jdbcTemplate.query(
+            "SELECT s.id, s.user_id, s.status, s.plan_id, p.price, p.is_active FROM subscription s "
+                + "JOIN subscription_plan p ON p.id = s.plan_id "
+                + "WHERE s.id > ? AND s.id <= ? AND " + DUE_CONDITION + " ORDER BY s.id LIMIT ?",
+            (rs, rowNum) -> new DueSubscription(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getLong(4),
+                rs.getBigDecimal(5), rs.getBoolean(6)),
+            afterId, rangeEnd, Date.valueOf(today), Date.valueOf(graceCutoff), limit);
+    }
+
+    /**
+     * Lock the given subscriptions by primary key and return those that are still due
+     */
+    public Set<Long> lockDue(Collection<Long> ids, LocalDate today, LocalDate graceCutoff) {
+        Set<Long> locked = new HashSet<>();
+        List<Object> args = new ArrayList<>(ids);
+        args.add(Date.valueOf(today));
+        args.add(Date.valueOf(graceCutoff));
+        jdbcTemplate.query("SELECT s.id FROM subscription s WHERE s.id IN (" + placeholders(ids.size()) + ") AND "
+                + DUE_CONDITION + " FOR UPDATE",
+            rs -> {
+                locked.add(rs.getLong(1));
+            },
+            args.toArray());
+        return locked;
+    }
+
+    /**
+     * Payment method and currency of each subscription's latest payment
+     */
+    public Map<Long, PaymentSource> latestPaymentSources(Collection<Long> subscriptionIds) {
+        Map<Long, PaymentSource> sources = new HashMap<>();
+        if (subscriptionIds.isEmpty()) {
+            return sources;
+        }
+        jdbcTemplate.query("SELECT p.subscription_id, p.payment_method, p.currency FROM payment_transaction p "
+                + "JOIN (SELECT MAX(id) AS id FROM payment_transaction WHERE subscription_id IN ("
+                + placeholders(subscriptionIds.size()) + ") GROUP BY subscription_id) latest ON latest.id = p.id",
+            rs -> {
+                sources.put(rs.getLong(1), new PaymentSource(rs.getString(2), rs.getString(3)));
+            },
+            subscriptionIds.toArray());
+        return sources;
+    }
+
+    /**
+     * Move subscriptions to a status with one UPDATE, bumping their version
+     */
+    public int updateStatus(Collection<Long> ids, String status, String updatedBy) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(status);
+        args.add(updatedBy);
+        args.addAll(ids);
+        return jdbcTemplate.update("UPDATE subscription SET status = ?, updated_by = ?, version_id = version_id + 1 "
+            + "WHERE id IN (" + placeholders(ids.size()) + ")", args.toArray());
+    }
+
+    /**
+     * Insert PENDING renewal payments as one JDBC batch
+     */
+    public void insertRenewals(List<Renewal> renewals, LocalDateTime createdAt, String createdBy) {
+        if (renewals.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_RENEWAL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Renewal renewal = renewals.get(i);
+                ps.setLong(1, renewal.subscriptionId());
+                ps.setLong(2, renewal.userId());
+                ps.setLong(3, renewal.planId());
+                ps.setBigDecimal(4, renewal.amount());
+                ps.setString(5, renewal.currency());
+                ps.setString(6, renewal.paymentMethod());
+                ps.setTimestamp(7, timestamp);
+                ps.setString(8, createdBy);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return renewals.size();
+            }
+        });
+    }
+
+    public List<Checkpoint> findCheckpoints(LocalDate runDate) {
+        return jdbcTemplate.query("SELECT worker, range_start, range_end, last_id, processed, expired, past_due, renewals, "
+                + "completed FROM subscription_renewal_checkpoint WHERE run_date = ? ORDER BY worker",
+            (rs, rowNum) -> new Checkpoint(rs.getInt(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5),
+                rs.getLong(6), rs.getLong(7), rs.getLong(8), rs.getBoolean(9)),
+            Date.valueOf(runDate));
+    }
+
+    /**
+     * Record the partitions of a new run; partitions that already exist are kept as they are
+     */
+    public void createCheckpoints(LocalDate runDate, List<Checkpoint> checkpoints) {
+        List<Object[]> rows = new ArrayList<>(checkpoints.size());
+        for (Checkpoint checkpoint : checkpoints) {
+            rows.add(new Object[] {Date.valueOf(runDate), checkpoint.worker(), checkpoint.rangeStart(),
+                checkpoint.rangeEnd(), checkpoint.lastId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO subscription_renewal_checkpoint "
+            + "(run_date, worker, range_start, range_end, last_id) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * Move a partition past a processed chunk; runs in the chunk's transaction
+     */
+    public void advanceCheckpoint(LocalDate runDate, int worker, long lastId, long processed, long expired, long pastDue,
+                                  long renewals) {
+        jdbcTemplate.update("UPDATE subscription_renewal_checkpoint SET last_id = ?, processed = processed + ?, "
+                + "expired = expired + ?, past_due = past_due + ?, renewals = renewals + ? "
+                + "WHERE run_date = ? AND worker = ?",
+            lastId, processed, expired, pastDue, renewals, Date.valueOf(runDate), worker);
+    }
+
+    public void completeCheckpoint(LocalDate runDate, int worker) {
+        jdbcTemplate.update("UPDATE subscription_renewal_checkpoint SET completed = TRUE WHERE run_date = ? AND worker = ?",
+            Date.valueOf(runDate), worker);
+    }
+
+    public int deleteCheckpointsBefore(LocalDate runDate) {
+        return jdbcTemplate.update("DELETE FROM subscription_renewal_checkpoint WHERE run_date < ?", Date.valueOf(runDate));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public record DueSubscription(long id, long userId, String status, long planId, BigDecimal price, boolean planActive) {
+    }
+
+    public record PaymentSource(String paymentMethod, String currency) {
+    }
+
+    public record Renewal(long subscriptionId, long userId, long planId, BigDecimal amount, String currency,
+                          String paymentMethod) {
+    }
+
+    public record Checkpoint(int worker, long rangeStart, long rangeEnd, long lastId, long processed, long expired,
+                             long pastDue, long renewals, boolean completed) {
+    }
+}
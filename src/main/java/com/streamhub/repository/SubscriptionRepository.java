@@ -1,9 +1,12 @@
 package com.streamhub.repository;
 
 import com.streamhub.entity.Subscription;
+import com.streamhub.repository.projection.EntitlementWindowView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -15,4 +18,10 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     Page<Subscription> findByStatus(String status, Pageable pageable);
     List<Subscription> findByEndDateBefore(LocalDate date);
     List<Subscription> findByUserIdAndStatus(Long userId, String status);
+
+    @Query("SELECT new com.streamhub.repository.projection.EntitlementWindowView(" +
+           "s.id, p.id, p.planName, p.features, s.startDate, s.endDate) " +
+           "FROM Subscription s JOIN s.subscriptionPlan p " +
+           "WHERE s.userId = :userId AND s.status = 'ACTIVE' AND s.endDate >= :today")
+    List<EntitlementWindowView> findEntitlementWindows(@Param("userId") Long userId, @Param("today") LocalDate today);
 }
@@ -0,0 +1,51 @@
+package com.streamhub.repository;
+
+import com.streamhub.entity.SystemAuditLog;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC batch inserts for audit trail rows.
+ * With rewriteBatchedStatements=true on the JDBC URL each batch is sent as multi-row INSERT statements.
+ */
+@Repository
+public class SystemAuditLogBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO system_audit_log (table_name, action, record_id, old_value, "
+        + "new_value, performed_by, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SystemAuditLogBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertBatch(List<SystemAuditLog> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SystemAuditLog row = rows.get(i);
+                ps.setString(1, row.getTableName());
+                ps.setString(2, row.getAction());
+                ps.setLong(3, row.getRecordId());
+                ps.setString(4, row.getOldValue());
+                ps.setString(5, row.getNewValue());
+                ps.setString(6, row.getPerformedBy());
+                ps.setTimestamp(7, row.getTimestamp() != null ? Timestamp.valueOf(row.getTimestamp()) : now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+}
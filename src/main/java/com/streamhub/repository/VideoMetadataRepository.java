@@ -1,13 +1,20 @@
 package com.streamhub.repository;
 
 import com.streamhub.entity.VideoMetadata;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface VideoMetadataRepository extends JpaRepository<VideoMetadata, Long> {
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "video_metadata_queries")
+    })
     Optional<VideoMetadata> findByContentId(Long contentId);
     boolean existsByContentId(Long contentId);
 }
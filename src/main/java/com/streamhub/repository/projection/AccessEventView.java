@@ -0,0 +1,9 @@
+package com.streamhub.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal access_control_log row replayed into the in-memory trending windows
+ */
+public record AccessEventView(Long id, Long contentId, LocalDateTime timestamp) {
+}
@@ -0,0 +1,36 @@
+package com.streamhub.repository.projection;
+
+/**
+ * Columns a catalog listing reads into {@link CatalogItemView}.
+ * Compact rows skip the description and thumbnail_url TEXT columns; rows with the stream also carry
+ * video_metadata.stream_url and duration, joined in the same statement.
+ */
+public enum CatalogItemShape {
+    FULL(false, false),
+    COMPACT(true, false),
+    FULL_WITH_STREAM(false, true),
+    COMPACT_WITH_STREAM(true, true);
+
+    private final boolean compact;
+    private final boolean stream;
+
+    CatalogItemShape(boolean compact, boolean stream) {
+        this.compact = compact;
+        this.stream = stream;
+    }
+
+    public static CatalogItemShape of(boolean compact, boolean stream) {
+        if (stream) {
+            return compact ? COMPACT_WITH_STREAM : FULL_WITH_STREAM;
+        }
+        return compact ? COMPACT : FULL;
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public boolean includesStream() {
+        return stream;
+    }
+}
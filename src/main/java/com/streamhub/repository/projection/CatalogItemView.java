@@ -0,0 +1,38 @@
+package com.streamhub.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Catalog listing row: only the columns MediaItemDTO and the keyset cursor need.
+ * Built with a JPQL constructor expression, so rows are never managed entities.
+ * streamUrl and streamDuration are only filled in for {@link CatalogItemShape#includesStream()} shapes.
+ */
+public record CatalogItemView(Long id, LocalDateTime createdAt, String title, String description,
+                              String genre, String language, String contentType, String rating,
+                              String thumbnailURL, Integer duration, String streamUrl, Integer streamDuration) {
+
+    public CatalogItemView(Long id, LocalDateTime createdAt, String title, String description,
+                           String genre, String language, String contentType, String rating,
+                           String thumbnailURL, Integer duration) {
+        this(id, createdAt, title, description, genre, language, contentType, rating, thumbnailURL, duration,
+            null, null);
+    }
+
+    /**
+     * Compact row without the description and thumbnail_url TEXT columns
+     */
+    public CatalogItemView(Long id, LocalDateTime createdAt, String title, String genre, String language,
+                           String contentType, String rating, Integer duration) {
+        this(id, createdAt, title, null, genre, language, contentType, rating, null, duration, null, null);
+    }
+
+    /**
+     * Compact row with the video stream columns
+     */
+    public CatalogItemView(Long id, LocalDateTime createdAt, String title, String genre, String language,
+                           String contentType, String rating, Integer duration, String streamUrl,
+                           Integer streamDuration) {
+        this(id, createdAt, title, null, genre, language, contentType, rating, null, duration, streamUrl,
+            streamDuration);
+    }
+}
@@ -0,0 +1,13 @@
+package com.streamhub.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Full content row for catalog export, built with a JPQL constructor expression
+ * so exported rows are never managed entities and never touch video_metadata
+ */
+public record ContentExportView(Long id, String title, String description, String contentType, String genre,
+                                String language, String metadata, String rating, String thumbnailURL,
+                                Integer duration, String status, Integer versionId, LocalDateTime createdAt,
+                                LocalDateTime updatedAt, String createdBy, String updatedBy) {
+}
@@ -0,0 +1,13 @@
+package com.streamhub.repository.projection;
+
+/**
+ * Projection of the Content columns fed to the in-memory facet index
+ */
+public interface ContentFacetView {
+    Long getId();
+    String getContentType();
+    String getGenre();
+    String getLanguage();
+    String getRating();
+    String getStatus();
+}
@@ -0,0 +1,9 @@
+package com.streamhub.repository.projection;
+
+/**
+ * Indexed columns of a content row at a given version, read before a partial update so the in-memory
+ * indexes and statistics can be moved from the old values to the new ones
+ */
+public record ContentPatchStateView(String title, String description, String status, String contentType,
+                                    String genre, String language, String rating) {
+}
@@ -0,0 +1,9 @@
+package com.streamhub.repository.projection;
+
+/**
+ * Content id with its FULLTEXT relevance score
+ */
+public interface ContentScoreView {
+    Long getId();
+    Double getScore();
+}
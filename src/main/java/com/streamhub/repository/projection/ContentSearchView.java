@@ -0,0 +1,11 @@
+package com.streamhub.repository.projection;
+
+/**
+ * Projection of the Content columns fed to the in-memory search index
+ */
+public interface ContentSearchView {
+    Long getId();
+    String getTitle();
+    String getGenre();
+    String getDescription();
+}
@@ -0,0 +1,10 @@
+package com.streamhub.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Active subscription window of a user joined with its plan, as cached by the entitlement service
+ */
+public record EntitlementWindowView(Long subscriptionId, Long planId, String planName, String planFeatures,
+                                    LocalDate startDate, LocalDate endDate) {
+}
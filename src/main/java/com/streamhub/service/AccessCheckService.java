@@ -0,0 +1,93 @@
+package com.streamhub.service;
+
+import com.streamhub.dto.AccessCheckResultDTO;
+import com.streamhub.entity.AccessControlLog;
+import com.streamhub.repository.ContentRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+
+/**
+ * Content access checks for play attempts.
+ * The decision comes from the cached entitlement and content existence from the facet index,
+ * so a warm check does not query the database; the decision is recorded through the async access log writer
+ * and granted checks count as views for trending.
+ */
+@Service
+public class AccessCheckService {
+
+    private static final Logger logger = Logger.getLogger(AccessCheckService.class.getName());
+    static final String GRANTED = "GRANTED";
+    static final String DENIED_NO_SUBSCRIPTION = "DENIED_NO_SUBSCRIPTION";
+
+    private final EntitlementService entitlementService;
+    private final ContentFacetIndex facetIndex;
+    private final ContentRepository contentRepository;
+    private final AccessLogWriter accessLogWriter;
+    private final TrendingTracker trendingTracker;
+
+    public AccessCheckService(EntitlementService entitlementService, ContentFacetIndex facetIndex,
+                              ContentRepository contentRepository, AccessLogWriter accessLogWriter,
+                              TrendingTracker trendingTracker) {
+        this.entitlementService = entitlementService;
+        this.facetIndex = facetIndex;
+        this.contentRepository = contentRepository;
+        this.accessLogWriter = accessLogWriter;
+        this.trendingTracker = trendingTracker;
+    }
+
+    /**
+     * Decide whether the user may play the content and record the decision
+     *
+     * @throws NoSuchElementException if the content or the user does not exist
+     */
+    public AccessCheckResultDTO checkAccess(long contentId, long userId, String ipAddress, String userAgent) {
+        boolean contentExists = facetIndex.isReady()
+            ? facetIndex.contains(contentId)
+            : contentRepository.existsById(contentId);
+        if (!contentExists) {
+            throw new NoSuchElementException("Content not found with ID: " + contentId);
+        }
+
+        EntitlementService.Entitlement entitlement = entitlementService.getEntitlement(userId);
+        if (!entitlement.userExists()) {
+            throw new NoSuchElementException("User not found with ID: " + userId);
+        }
+
+        long now = System.currentTimeMillis();
+        EntitlementService.Window window = entitlement.activeWindow(now);
+        String status = window != null ? GRANTED : DENIED_NO_SUBSCRIPTION;
+
+        boolean logged = accessLogWriter.enqueue(AccessControlLog.builder()
+            .contentId(contentId)
+            .userId(userId)
+            .accessStatus(status)
+            .ipAddress(ipAddress)
+            .userAgent(userAgent)
+            .timestamp(LocalDateTime.now())
+            .build());
+        if (window != null) {
+            trendingTracker.record(contentId, now);
+        } else {
+            logger.fine(() -> "Access denied for user " + userId + " to content " + contentId + ": no active subscription");
+        }
+
+        AccessCheckResultDTO.AccessCheckResultDTOBuilder result = AccessCheckResultDTO.builder()
+            .contentId(contentId)
+            .userId(userId)
+            .granted(window != null)
+            .accessStatus(status)
+            .logged(logged);
+        if (window != null) {
+            result.subscriptionId(window.subscriptionId())
+                .planId(window.planId())
+                .planName(window.planName())
+                .validUntil(LocalDateTime.ofInstant(Instant.ofEpochMilli(window.validUntil()), ZoneId.systemDefault()));
+        }
+        return result.build();
+    }
+}
@@ -0,0 +1,318 @@
+package com.streamhub.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.streamhub.dto.AccessLogEntryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local file archive of access_control_log partitions.
+ * Each archived month is a gzip-compressed NDJSON file of {@link AccessLogEntryDTO} rows in (user_id, id) order,
+ * written to a temporary file and renamed into place once complete. The file is a series of independent gzip
+ * members of about segment-bytes of NDJSON each (still one valid gzip stream), and a small index file next to it
+ * lists the user range, offset and length of every member, so one user's rows are read without inflating the month.
+ */
+@Component
+public class AccessLogArchive {
+
+    private static final Logger logger = Logger.getLogger(AccessLogArchive.class.getName());
+    private static final String PREFIX = "access_control_log-";
+    private static final String SUFFIX = ".ndjson.gz";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private static final String PARTITION_SQL = "SELECT id, content_id, user_id, access_status, ip_address, user_agent, "
+        + "timestamp, content_title_snapshot FROM access_control_log PARTITION (%s) ORDER BY user_id, id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectWriter rowWriter;
+    private final ObjectReader rowReader;
+    private final Path directory;
+    private final int segmentBytes;
+    // Parsed segment indexes by month; a few bytes per segment, replaced when a month is archived again
+    private final Map<YearMonth, Segment[]> indexes = new ConcurrentHashMap<>();
+
+    public AccessLogArchive(DataSource dataSource, ObjectMapper objectMapper,
+                            @Value("${streamhub.access-log.archive.directory:archive/access_control_log}") String directory,
+                            @Value("${streamhub.access-log.archive.fetch-size:5000}") int fetchSize,
+                            @Value("${streamhub.access-log.archive.segment-bytes:262144}") int segmentBytes) {
+        // Separate template so the cursor fetch size does not apply to other queries
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.rowWriter = objectMapper.writerFor(AccessLogEntryDTO.class)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.rowReader = objectMapper.readerFor(AccessLogEntryDTO.class);
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Copy every row of a partition into the month's archive file, replacing any earlier attempt
+     *
+     * @return the number of rows archived
+     */
+    public long archivePartition(YearMonth month, String partition) throws IOException {
+        Files.createDirectories(directory);
+        Path target = file(month);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        Path index = indexFile(month);
+        Path tempIndex = directory.resolve(index.getFileName() + ".tmp");
+        long[] rows = {0};
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                 StandardOpenOption.TRUNCATE_EXISTING);
+             Writer indexOut = Files.newBufferedWriter(tempIndex, StandardCharsets.UTF_8)) {
+            SegmentWriter segments = new SegmentWriter(Channels.newOutputStream(channel), channel, indexOut);
+            Writer out = new OutputStreamWriter(segments.buffer, StandardCharsets.UTF_8);
+            streamingJdbcTemplate.query(String.format(PARTITION_SQL, partition), rs -> {
+                AccessLogEntryDTO entry = AccessLogEntryDTO.builder()
+                    .id(rs.getLong("id"))
+                    .contentId(rs.getLong("content_id"))
+                    .userId(rs.getLong("user_id"))
+                    .accessStatus(rs.getString("access_status"))
+                    .ipAddress(rs.getString("ip_address"))
+                    .userAgent(rs.getString("user_agent"))
+                    .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+                    .contentTitleSnapshot(rs.getString("content_title_snapshot"))
+                    .build();
+                try {
+                    if (segments.buffer.size() >= segmentBytes) {
+                        out.flush();
+                        segments.finish();
+                    }
+                    segments.add(entry.getUserId());
+                    rowWriter.writeValue(out, entry);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            out.flush();
+            segments.finish();
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            Files.deleteIfExists(tempIndex);
+            throw e.getCause();
+        } catch (RuntimeException | IOException e) {
+            Files.deleteIfExists(temp);
+            Files.deleteIfExists(tempIndex);
+            throw e;
+        }
+
+        // An archive without its index is read in full, so a crash between the moves only costs speed
+        Files.deleteIfExists(index);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(tempIndex, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        indexes.remove(month);
+        logger.info("Archived partition " + partition + ": " + rows[0] + " rows to " + target);
+        return rows[0];
+    }
+
+    /**
+     * Months that have an archive file, oldest first
+     */
+    public List<YearMonth> archivedMonths() {
+        List<YearMonth> months = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return months;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                .forEach(name -> {
+                    try {
+                        months.add(YearMonth.parse(name.substring(PREFIX.length(), name.length() - SUFFIX.length()), MONTH));
+                    } catch (DateTimeParseException e) {
+                        logger.warning("Ignoring unexpected archive file " + name);
+                    }
+                });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        months.sort(null);
+        return months;
+    }
+
+    /**
+     * Read every entry of an archived month, marking each entry as archived
+     */
+    public void forEach(YearMonth month, Consumer<AccessLogEntryDTO> consumer) {
+        try {
+            read(Files.newInputStream(file(month)), consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the entries of one user in an archived month in id order, inflating only the segments
+     * whose user range includes the user; months archived without an index are read in full
+     */
+    public void forEachOfUser(YearMonth month, long userId, Consumer<AccessLogEntryDTO> consumer) {
+        Consumer<AccessLogEntryDTO> ofUser = entry -> {
+            if (entry.getUserId() == userId) {
+                consumer.accept(entry);
+            }
+        };
+        Segment[] segments = segments(month);
+        if (segments == null) {
+            forEach(month, ofUser);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file(month), StandardOpenOption.READ)) {
+            for (Segment segment : segments) {
+                if (segment.firstUserId() > userId) {
+                    break;
+                }
+                if (segment.lastUserId() >= userId) {
+                    ByteBuffer bytes = ByteBuffer.allocate(segment.length());
+                    while (bytes.hasRemaining()) {
+                        if (channel.read(bytes, segment.offset() + bytes.position()) < 0) {
+                            throw new IOException("Truncated archive segment in " + file(month));
+                        }
+                    }
+                    read(new ByteArrayInputStream(bytes.array()), ofUser);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void read(InputStream compressed, Consumer<AccessLogEntryDTO> consumer) throws IOException {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(compressed, 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    AccessLogEntryDTO entry = rowReader.readValue(line);
+                    entry.setArchived(true);
+                    consumer.accept(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Segment index of a month in user order, or null when the month has no index file
+     */
+    private Segment[] segments(YearMonth month) {
+        Segment[] cached = indexes.get(month);
+        if (cached != null) {
+            return cached;
+        }
+        Path index = indexFile(month);
+        if (!Files.exists(index)) {
+            return null;
+        }
+        List<Segment> segments = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                if (!line.isEmpty()) {
+                    String[] fields = line.split(" ");
+                    segments.add(new Segment(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                        Long.parseLong(fields[2]), Integer.parseInt(fields[3])));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Segment[] parsed = segments.toArray(new Segment[0]);
+        indexes.put(month, parsed);
+        return parsed;
+    }
+
+    private Path file(YearMonth month) {
+        return directory.resolve(PREFIX + month.format(MONTH) + SUFFIX);
+    }
+
+    private Path indexFile(YearMonth month) {
+        return directory.resolve(PREFIX + month.format(MONTH) + INDEX_SUFFIX);
+    }
+
+    /**
+     * One gzip member of an archive file: users firstUserId..lastUserId at offset, length bytes long
+     */
+    private record Segment(long firstUserId, long lastUserId, long offset, int length) {
+    }
+
+    /**
+     * Buffers a segment's NDJSON and writes it as its own gzip member, recording it in the index
+     */
+    private static final class SegmentWriter {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final OutputStream file;
+        private final FileChannel channel;
+        private final Writer index;
+        private long firstUserId = -1;
+        private long lastUserId;
+
+        private SegmentWriter(OutputStream file, FileChannel channel, Writer index) {
+            this.file = file;
+            this.channel = channel;
+            this.index = index;
+        }
+
+        private void add(long userId) {
+            if (firstUserId < 0) {
+                firstUserId = userId;
+            }
+            lastUserId = userId;
+        }
+
+        private void finish() throws IOException {
+            if (buffer.size() == 0) {
+                return;
+            }
+            long offset = channel.position();
+            GZIPOutputStream member = new GZIPOutputStream(file, 64 * 1024);
+            buffer.writeTo(member);
+            // finish() writes the trailer without closing the file
+            member.finish();
+            index.write(firstUserId + " " + lastUserId + " " + offset + " " + (channel.position() - offset) + "\n");
+            buffer.reset();
+            firstUserId = -1;
+        }
+    }
+}
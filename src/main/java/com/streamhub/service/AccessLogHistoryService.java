@@ -0,0 +1,122 @@
+package com.streamhub.service;
+
+import com.streamhub.dto.AccessLogEntryDTO;
+import com.streamhub.dto.AccessLogPageDTO;
+import com.streamhub.entity.AccessControlLog;
+import com.streamhub.repository.AccessControlLogRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Access history of a user over a time range, newest first.
+ * Live rows come from access_control_log, where the timestamp bounds prune to the partitions in range;
+ * once those are exhausted the page continues into archived months that overlap the range, reading only
+ * the archive segments that hold the user.
+ */
+@Service
+public class AccessLogHistoryService {
+
+    private static final Logger logger = Logger.getLogger(AccessLogHistoryService.class.getName());
+
+    private final AccessControlLogRepository accessControlLogRepository;
+    private final AccessLogArchive archive;
+
+    public AccessLogHistoryService(AccessControlLogRepository accessControlLogRepository, AccessLogArchive archive) {
+        this.accessControlLogRepository = accessControlLogRepository;
+        this.archive = archive;
+    }
+
+    @Transactional(readOnly = true)
+    public AccessLogPageDTO getUserHistory(long userId, LocalDateTime from, LocalDateTime to, int page, int pageSize) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        logger.fine(() -> "Fetching access history - userId=" + userId + ", from=" + from + ", to=" + to + ", page=" + page);
+
+        PageRequest pageable = PageRequest.of(page, pageSize,
+            Sort.by(Sort.Direction.DESC, "timestamp").and(Sort.by(Sort.Direction.DESC, "id")));
+        Page<AccessControlLog> live = accessControlLogRepository.findByUserIdAndTimestampBetween(userId, from, to, pageable);
+        List<AccessLogEntryDTO> entries = new ArrayList<>(pageSize);
+        for (AccessControlLog row : live.getContent()) {
+            entries.add(toEntry(row));
+        }
+
+        boolean archiveSearched = false;
+        if (entries.size() < pageSize) {
+            long skip = Math.max(0, (long) page * pageSize - live.getTotalElements());
+            archiveSearched = appendArchived(userId, from, to, skip, pageSize - entries.size(), entries);
+        }
+
+        return AccessLogPageDTO.builder()
+            .status("success")
+            .page(page)
+            .pageSize(pageSize)
+            .count(entries.size())
+            .archiveSearched(archiveSearched)
+            .entries(entries)
+            .build();
+    }
+
+    /**
+     * Scan archived months overlapping the range, newest first, skipping and then collecting matches
+     */
+    private boolean appendArchived(long userId, LocalDateTime from, LocalDateTime to, long skip, int limit,
+                                   List<AccessLogEntryDTO> entries) {
+        List<YearMonth> months = archive.archivedMonths();
+        Collections.reverse(months);
+        boolean searched = false;
+        long remainingSkip = skip;
+        for (YearMonth month : months) {
+            if (limit == 0) {
+                break;
+            }
+            if (month.isBefore(YearMonth.from(from)) || month.isAfter(YearMonth.from(to))) {
+                continue;
+            }
+            searched = true;
+            List<AccessLogEntryDTO> matches = new ArrayList<>();
+            archive.forEachOfUser(month, userId, entry -> {
+                if (!entry.getTimestamp().isBefore(from) && !entry.getTimestamp().isAfter(to)) {
+                    matches.add(entry);
+                }
+            });
+            matches.sort((a, b) -> a.getTimestamp().equals(b.getTimestamp())
+                ? Long.compare(b.getId(), a.getId())
+                : b.getTimestamp().compareTo(a.getTimestamp()));
+
+            if (remainingSkip >= matches.size()) {
+                remainingSkip -= matches.size();
+                continue;
+            }
+            int start = (int) remainingSkip;
+            int end = Math.min(matches.size(), start + limit);
+            entries.addAll(matches.subList(start, end));
+            limit -= end - start;
+            remainingSkip = 0;
+        }
+        return searched;
+    }
+
+    private static AccessLogEntryDTO toEntry(AccessControlLog row) {
+        return AccessLogEntryDTO.builder()
+            .id(row.getId())
+            .contentId(row.getContentId())
+            .userId(row.getUserId())
+            .accessStatus(row.getAccessStatus())
+            .ipAddress(row.getIpAddress())
+            .userAgent(row.getUserAgent())
+            .timestamp(row.getTimestamp())
+            .contentTitleSnapshot(row.getContentTitleSnapshot())
+            .build();
+    }
+}
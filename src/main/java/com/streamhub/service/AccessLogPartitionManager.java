@@ -0,0 +1,166 @@
+package com.streamhub.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Maintains the monthly RANGE partitions of access_control_log.
+ * Partitions named pYYYYMM are split off the trailing pmax partition a few months ahead, so inserts never
+ * land in pmax and queries bounded by timestamp prune to the months they touch. Partitions older than the
+ * retention period are archived through {@link AccessLogArchive}, checked against the row count and dropped.
+ */
+@Component
+public class AccessLogPartitionManager {
+
+    private static final Logger logger = Logger.getLogger(AccessLogPartitionManager.class.getName());
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccessLogArchive archive;
+    private final boolean enabled;
+    private final int partitionsAhead;
+    private final int retentionMonths;
+    private boolean warnedUnpartitioned;
+
+    public AccessLogPartitionManager(JdbcTemplate jdbcTemplate, AccessLogArchive archive,
+                                     @Value("${streamhub.access-log.partitioning.enabled:true}") boolean enabled,
+                                     @Value("${streamhub.access-log.partitioning.months-ahead:3}") int partitionsAhead,
+                                     @Value("${streamhub.access-log.retention-months:12}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archive = archive;
+        this.enabled = enabled;
+        this.partitionsAhead = partitionsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    /**
+     * Create upcoming partitions, then archive and drop expired ones
+     */
+    @Scheduled(cron = "${streamhub.access-log.partitioning.maintenance-cron:0 30 3 * * *}")
+    public synchronized void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            TreeMap<YearMonth, String> partitions = monthlyPartitions();
+            if (partitions == null) {
+                return;
+            }
+            ensurePartitions(partitions);
+            archiveExpired(partitions);
+        } catch (DataAccessException e) {
+            logger.severe("Access log partition maintenance failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Monthly partitions by month, or null when the table is not partitioned with a pmax partition
+     */
+    private TreeMap<YearMonth, String> monthlyPartitions() {
+        List<String> names = jdbcTemplate.queryForList(
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() "
+                + "AND TABLE_NAME = 'access_control_log' AND PARTITION_NAME IS NOT NULL", String.class);
+        if (!names.contains(MAX_PARTITION)) {
+            if (!warnedUnpartitioned) {
+                logger.warning("access_control_log is not range-partitioned with a pmax partition; "
+                    + "see schema.sql for the conversion. Partition maintenance is skipped.");
+                warnedUnpartitioned = true;
+            }
+            return null;
+        }
+
+        TreeMap<YearMonth, String> partitions = new TreeMap<>();
+        for (String name : names) {
+            if (!MAX_PARTITION.equals(name)) {
+                try {
+                    partitions.put(YearMonth.parse(name, PARTITION_NAME), name);
+                } catch (DateTimeParseException e) {
+                    logger.warning("Ignoring unexpected access_control_log partition " + name);
+                }
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Split pmax into the missing months up to the look-ahead. On a freshly converted table the first month is
+     * that of the oldest row, so existing history moves out of pmax once.
+     */
+    private void ensurePartitions(TreeMap<YearMonth, String> partitions) {
+        YearMonth through = YearMonth.now().plusMonths(partitionsAhead);
+        YearMonth next;
+        if (!partitions.isEmpty()) {
+            next = partitions.lastKey().plusMonths(1);
+        } else {
+            Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(timestamp) FROM access_control_log", Timestamp.class);
+            next = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : YearMonth.now();
+        }
+        if (next.isAfter(through)) {
+            return;
+        }
+
+        StringBuilder ddl = new StringBuilder("ALTER TABLE access_control_log REORGANIZE PARTITION ")
+            .append(MAX_PARTITION).append(" INTO (");
+        List<YearMonth> created = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(through); month = month.plusMonths(1)) {
+            ddl.append("PARTITION ").append(month.format(PARTITION_NAME))
+                .append(" VALUES LESS THAN (UNIX_TIMESTAMP('").append(month.plusMonths(1).atDay(1)).append(" 00:00:00')), ");
+            created.add(month);
+        }
+        ddl.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN MAXVALUE)");
+
+        long started = System.nanoTime();
+        jdbcTemplate.execute(ddl.toString());
+        for (YearMonth month : created) {
+            partitions.put(month, month.format(PARTITION_NAME));
+        }
+        logger.info("Created access_control_log partitions " + created.get(0) + " to " + through + " in "
+            + (System.nanoTime() - started) / 1_000_000 + " ms");
+    }
+
+    private void archiveExpired(TreeMap<YearMonth, String> partitions) {
+        YearMonth oldestRetained = YearMonth.now().minusMonths(retentionMonths);
+        for (YearMonth month : new ArrayList<>(partitions.headMap(oldestRetained).keySet())) {
+            String partition = partitions.get(month);
+            long expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM access_control_log PARTITION (" + partition + ")", Long.class);
+            long archived;
+            try {
+                archived = archive.archivePartition(month, partition);
+            } catch (IOException e) {
+                logger.severe("Archiving partition " + partition + " failed, keeping it: " + e.getMessage());
+                return;
+            }
+            if (archived != expected) {
+                logger.severe("Archive of partition " + partition + " has " + archived + " rows, expected "
+                    + expected + "; keeping the partition");
+                return;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE access_control_log DROP PARTITION " + partition);
+            partitions.remove(month);
+            logger.info("Dropped access_control_log partition " + partition + " after archiving " + archived + " rows");
+        }
+    }
+}
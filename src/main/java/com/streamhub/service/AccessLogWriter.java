@@ -0,0 +1,214 @@
+package com.streamhub.service;
+
+import com.streamhub.entity.AccessControlLog;
+import com.streamhub.repository.AccessControlLogBulkRepository;
+import com.streamhub.util.BoundedRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous write pipeline for access control log entries.
+ * Request threads enqueue into a bounded lock-free ring buffer; a dedicated writer thread drains it into
+ * JDBC batches, flushing when a batch fills or the flush interval elapses. When the buffer is full the
+ * overflow policy either drops the entry or blocks the caller for a bounded time. Pending entries are
+ * flushed on shutdown.
+ */
+@Component
+public class AccessLogWriter {
+
+    private static final Logger logger = Logger.getLogger(AccessLogWriter.class.getName());
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private final AccessControlLogBulkRepository bulkRepository;
+    private final boolean enabled;
+    private final BoundedRingBuffer<AccessControlLog> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final long shutdownTimeoutMs;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private Thread writer;
+    private volatile boolean parked;
+    private volatile boolean stopping;
+
+    public AccessLogWriter(AccessControlLogBulkRepository bulkRepository,
+                           @Value("${streamhub.access-log.async.enabled:true}") boolean enabled,
+                           @Value("${streamhub.access-log.async.capacity:65536}") int capacity,
+                           @Value("${streamhub.access-log.async.batch-size:500}") int batchSize,
+                           @Value("${streamhub.access-log.async.flush-interval-ms:200}") long flushIntervalMs,
+                           @Value("${streamhub.access-log.async.overflow:block}") String overflowPolicy,
+                           @Value("${streamhub.access-log.async.block-timeout-ms:50}") long blockTimeoutMs,
+                           @Value("${streamhub.access-log.async.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.bulkRepository = bulkRepository;
+        this.enabled = enabled;
+        this.buffer = new BoundedRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT));
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = new Thread(this::drainLoop, "access-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queue an entry for insertion without touching the database on the calling thread.
+     * With async writes disabled the entry is inserted synchronously.
+     *
+     * @return false if the entry was dropped because the buffer stayed full
+     */
+    public boolean enqueue(AccessControlLog entry) {
+        if (entry.getTimestamp() == null) {
+            entry.setTimestamp(LocalDateTime.now());
+        }
+        if (!enabled || stopping) {
+            write(List.of(entry));
+            return true;
+        }
+
+        if (offer(entry)) {
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (offer(entry)) {
+                    return true;
+                }
+            }
+        }
+
+        long total = dropped.incrementAndGet();
+        if (total == 1 || total % 10_000 == 0) {
+            logger.warning("Access log buffer full, " + total + " entries dropped so far");
+        }
+        return false;
+    }
+
+    public AccessLogStats getStatistics() {
+        return new AccessLogStats(enabled, overflowPolicy.name(), buffer.capacity(), buffer.size(), enqueued.sum(),
+            written.sum(), dropped.get(), failed.sum(), batches.sum());
+    }
+
+    /**
+     * Stop accepting into the buffer and wait for the writer to flush what is pending
+     */
+    @PreDestroy
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        stopping = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warning("Access log writer did not finish within " + shutdownTimeoutMs + " ms, "
+                + buffer.size() + " entries not written");
+        } else {
+            // An enqueue that saw stopping unset can land after the writer's last drain; write it here
+            List<AccessControlLog> late = new ArrayList<>(batchSize);
+            while (buffer.drainTo(late, batchSize) > 0) {
+                write(late);
+                late.clear();
+            }
+            logger.info("Access log writer stopped: " + written.sum() + " written, " + dropped.get() + " dropped");
+        }
+    }
+
+    private boolean offer(AccessControlLog entry) {
+        if (!buffer.offer(entry)) {
+            return false;
+        }
+        enqueued.increment();
+        // The writer parks between flush intervals; wake it as soon as a full batch is waiting
+        if (parked && buffer.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        List<AccessControlLog> batch = new ArrayList<>(batchSize);
+        long batchStarted = 0;
+        while (true) {
+            boolean finishing = stopping;
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (wasEmpty && !batch.isEmpty()) {
+                batchStarted = System.nanoTime();
+            }
+
+            long waited = System.nanoTime() - batchStarted;
+            if (batch.size() >= batchSize || (!batch.isEmpty() && (finishing || waited >= flushIntervalNanos))) {
+                write(batch);
+                batch.clear();
+                continue;
+            }
+            if (finishing && batch.isEmpty()) {
+                return;
+            }
+
+            parked = true;
+            LockSupport.parkNanos(batch.isEmpty() ? flushIntervalNanos : flushIntervalNanos - waited);
+            parked = false;
+        }
+    }
+
+    private void write(List<AccessControlLog> entries) {
+        try {
+            int inserted = bulkRepository.insertBatch(entries);
+            written.add(inserted);
+            batches.increment();
+            if (inserted < entries.size()) {
+                failed.add(entries.size() - inserted);
+                logger.warning("Skipped " + (entries.size() - inserted) + " access log entries for deleted content");
+            }
+        } catch (DataAccessException e) {
+            failed.add(entries.size());
+            logger.severe("Failed to write " + entries.size() + " access log entries: " + e.getMessage());
+        }
+    }
+
+    public record AccessLogStats(boolean async, String overflowPolicy, int capacity, int pending, long enqueued,
+                                 long written, long dropped, long failed, long batches) {
+    }
+}
@@ -0,0 +1,226 @@
+package com.streamhub.service;
+
+import com.streamhub.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate post-insert, post-update and post-delete listener feeding the audit trail.
+ * For audited entities it copies the affected column values, only the dirty ones on update, and hands them
+ * to {@link AuditTrailWriter} once the transaction commits, so the business transaction does no audit I/O.
+ * Writes that bypass Hibernate, such as the JDBC bulk paths, are not audited.
+ */
+@Component
+public class AuditEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String REDACTED = "***";
+    private static final Set<String> REDACTED_COLUMNS = Set.of("password_hash");
+    private static final String DEFAULT_ACTOR = "SYSTEM";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditTrailWriter auditTrailWriter;
+    private final Set<String> auditedEntities;
+    private final Map<String, AuditedEntity> metadata = new ConcurrentHashMap<>();
+
+    public AuditEventListener(EntityManagerFactory entityManagerFactory, AuditTrailWriter auditTrailWriter,
+                              @Value("${streamhub.audit.entities:Content,Subscription,AppUser,PaymentTransaction}") Set<String> auditedEntities) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.auditTrailWriter = auditTrailWriter;
+        this.auditedEntities = auditedEntities;
+    }
+
+    @PostConstruct
+    public void register() {
+        if (!auditTrailWriter.isEnabled()) {
+            return;
+        }
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        AuditedEntity entity = audited(event.getPersister());
+        if (entity == null) {
+            return;
+        }
+        Map<String, Object> values = entity.values(event.getState());
+        record(entity, "INSERT", event.getId(), null, values, entity.actor(event.getState(), true));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        AuditedEntity entity = audited(event.getPersister());
+        if (entity == null) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        Object[] state = event.getState();
+        if (oldState == null) {
+            // No snapshot to diff against, e.g. an update of a detached instance
+            record(entity, "UPDATE", event.getId(), null, entity.values(state), entity.actor(state, false));
+            return;
+        }
+
+        Map<String, Object> before = new LinkedHashMap<>();
+        Map<String, Object> after = new LinkedHashMap<>();
+        int[] dirty = event.getDirtyProperties();
+        if (dirty != null) {
+            for (int index : dirty) {
+                entity.diff(index, oldState, state, before, after);
+            }
+        } else {
+            for (int index = 0; index < state.length; index++) {
+                entity.diff(index, oldState, state, before, after);
+            }
+        }
+        if (!after.isEmpty() || !before.isEmpty()) {
+            record(entity, "UPDATE", event.getId(), before, after, entity.actor(state, false));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        AuditedEntity entity = audited(event.getPersister());
+        if (entity == null) {
+            return;
+        }
+        Object[] state = event.getDeletedState();
+        record(entity, "DELETE", event.getId(), state != null ? entity.values(state) : null, null,
+            state != null ? entity.actor(state, false) : DEFAULT_ACTOR);
+    }
+
+    /**
+     * Record an update made by a bulk statement, which raises no Hibernate event; only the new values are known
+     */
+    public void recordUpdate(Class<?> entityClass, String tableName, long id, Map<String, Object> newValues, String actor) {
+        if (auditTrailWriter.isEnabled() && auditedEntities.contains(entityClass.getSimpleName())) {
+            AuditTrailWriter.AuditEvent event = new AuditTrailWriter.AuditEvent(tableName, "UPDATE", id, null, newValues,
+                actor != null ? actor : DEFAULT_ACTOR, LocalDateTime.now());
+            AfterCommit.run(() -> auditTrailWriter.enqueue(event));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(AuditedEntity entity, String action, Object id, Map<String, Object> before,
+                        Map<String, Object> after, String actor) {
+        if (!(id instanceof Number number)) {
+            return;
+        }
+        AuditTrailWriter.AuditEvent event = new AuditTrailWriter.AuditEvent(entity.tableName, action, number.longValue(),
+            before, after, actor, LocalDateTime.now());
+        AfterCommit.run(() -> auditTrailWriter.enqueue(event));
+    }
+
+    private AuditedEntity audited(EntityPersister persister) {
+        AuditedEntity entity = metadata.computeIfAbsent(persister.getEntityName(), name -> AuditedEntity.of(persister, auditedEntities));
+        return entity.audited ? entity : null;
+    }
+
+    /**
+     * Column names of an entity's basic properties, resolved once per entity type
+     */
+    private static final class AuditedEntity {
+
+        private final boolean audited;
+        private final String tableName;
+        // Column per property index, null for associations and collections
+        private final String[] columns;
+        private final int createdByIndex;
+        private final int updatedByIndex;
+
+        private AuditedEntity(boolean audited, String tableName, String[] columns, int createdByIndex, int updatedByIndex) {
+            this.audited = audited;
+            this.tableName = tableName;
+            this.columns = columns;
+            this.createdByIndex = createdByIndex;
+            this.updatedByIndex = updatedByIndex;
+        }
+
+        static AuditedEntity of(EntityPersister persister, Set<String> auditedEntities) {
+            String simpleName = persister.getMappedClass().getSimpleName();
+            if (!auditedEntities.contains(simpleName) || !(persister instanceof AbstractEntityPersister mapped)) {
+                return new AuditedEntity(false, null, null, -1, -1);
+            }
+            String[] names = persister.getPropertyNames();
+            Type[] types = persister.getPropertyTypes();
+            String[] columns = new String[names.length];
+            int createdBy = -1;
+            int updatedBy = -1;
+            for (int i = 0; i < names.length; i++) {
+                String[] propertyColumns = mapped.getPropertyColumnNames(i);
+                if (types[i].isAssociationType() || types[i].isCollectionType() || propertyColumns.length != 1) {
+                    continue;
+                }
+                columns[i] = propertyColumns[0];
+                if ("createdBy".equals(names[i])) {
+                    createdBy = i;
+                } else if ("updatedBy".equals(names[i])) {
+                    updatedBy = i;
+                }
+            }
+            return new AuditedEntity(true, mapped.getTableName(), columns, createdBy, updatedBy);
+        }
+
+        Map<String, Object> values(Object[] state) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < state.length; i++) {
+                if (columns[i] != null && state[i] != null) {
+                    values.put(columns[i], value(i, state[i]));
+                }
+            }
+            return values;
+        }
+
+        void diff(int index, Object[] oldState, Object[] state, Map<String, Object> before, Map<String, Object> after) {
+            if (columns[index] == null || Objects.equals(oldState[index], state[index])) {
+                return;
+            }
+            before.put(columns[index], value(index, oldState[index]));
+            after.put(columns[index], value(index, state[index]));
+        }
+
+        String actor(Object[] state, boolean insert) {
+            Object actor = null;
+            if (!insert && updatedByIndex >= 0) {
+                actor = state[updatedByIndex];
+            }
+            if (actor == null && createdByIndex >= 0) {
+                actor = state[createdByIndex];
+            }
+            return actor != null ? actor.toString() : DEFAULT_ACTOR;
+        }
+
+        private Object value(int index, Object value) {
+            return value != null && REDACTED_COLUMNS.contains(columns[index]) ? REDACTED : value;
+        }
+    }
+}
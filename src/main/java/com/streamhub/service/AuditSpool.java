@@ -0,0 +1,201 @@
+package com.streamhub.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.streamhub.entity.SystemAuditLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Local NDJSON spool for audit rows that could not be written to the database in time.
+ * Rows are appended to the current spool file, which is rotated after max-rows-per-file rows and before
+ * every replay. Replay feeds closed files back in batches and deletes each file once all of it is written.
+ */
+@Component
+public class AuditSpool {
+
+    private static final Logger logger = Logger.getLogger(AuditSpool.class.getName());
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".ndjson";
+
+    private final ObjectWriter rowWriter;
+    private final ObjectReader rowReader;
+    private final Path directory;
+    private final int maxRowsPerFile;
+    // Rows of a file already replayed, so a replay that failed part way does not insert them twice
+    private final Map<Path, Long> replayedRows = new HashMap<>();
+
+    private Writer current;
+    private Path currentFile;
+    private int currentRows;
+    private long sequence;
+
+    public AuditSpool(ObjectMapper objectMapper,
+                      @Value("${streamhub.audit.spool.directory:spool/audit}") String directory,
+                      @Value("${streamhub.audit.spool.max-rows-per-file:50000}") int maxRowsPerFile) {
+        this.rowWriter = objectMapper.writerFor(SystemAuditLog.class)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.rowReader = objectMapper.readerFor(SystemAuditLog.class);
+        this.directory = Paths.get(directory);
+        this.maxRowsPerFile = maxRowsPerFile;
+    }
+
+    /**
+     * Append rows to the current spool file and flush them to the operating system
+     */
+    public synchronized void append(List<SystemAuditLog> rows) throws IOException {
+        if (current == null) {
+            Files.createDirectories(directory);
+            currentFile = directory.resolve(PREFIX + System.currentTimeMillis() + "-" + (sequence++) + SUFFIX);
+            current = new BufferedWriter(Files.newBufferedWriter(currentFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        }
+        for (SystemAuditLog row : rows) {
+            rowWriter.writeValue(current, row);
+            current.write('\n');
+        }
+        current.flush();
+        currentRows += rows.size();
+        if (currentRows >= maxRowsPerFile) {
+            rotate();
+        }
+    }
+
+    public boolean hasPending() {
+        return !spoolFiles().isEmpty();
+    }
+
+    public int fileCount() {
+        return spoolFiles().size();
+    }
+
+    /**
+     * Feed spooled rows to the sink in batches, oldest file first, deleting each file once fully written.
+     * Stops at the first batch the sink rejects by throwing.
+     *
+     * @return number of rows replayed
+     */
+    public long replay(int batchSize, Consumer<List<SystemAuditLog>> sink) {
+        synchronized (this) {
+            rotate();
+        }
+        long replayed = 0;
+        for (Path file : spoolFiles()) {
+            long skip = replayedRows.getOrDefault(file, 0L);
+            long line = 0;
+            List<SystemAuditLog> batch = new ArrayList<>(batchSize);
+            try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String text;
+                while ((text = in.readLine()) != null) {
+                    if (text.isEmpty() || line++ < skip) {
+                        continue;
+                    }
+                    batch.add(rowReader.readValue(text));
+                    if (batch.size() == batchSize) {
+                        sink.accept(batch);
+                        replayed += batch.size();
+                        replayedRows.put(file, line);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    sink.accept(batch);
+                    replayed += batch.size();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try {
+                Files.delete(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            replayedRows.remove(file);
+            logger.info("Replayed and removed audit spool file " + file);
+        }
+        return replayed;
+    }
+
+    /**
+     * Close the current file so the next append starts a new one
+     */
+    public synchronized void rotate() {
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (IOException e) {
+            logger.warning("Closing audit spool file " + currentFile + " failed: " + e.getMessage());
+        }
+        current = null;
+        currentFile = null;
+        currentRows = 0;
+    }
+
+    /**
+     * Closed spool files, oldest first
+     */
+    private synchronized List<Path> spoolFiles() {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX) && !path.equals(currentFile);
+                })
+                .forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        files.sort((a, b) -> compareNames(a.getFileName().toString(), b.getFileName().toString()));
+        return files;
+    }
+
+    /**
+     * Order by the creation millis and sequence embedded in the name
+     */
+    private static int compareNames(String a, String b) {
+        String[] left = a.substring(PREFIX.length(), a.length() - SUFFIX.length()).split("-");
+        String[] right = b.substring(PREFIX.length(), b.length() - SUFFIX.length()).split("-");
+        for (int i = 0; i < Math.min(left.length, right.length); i++) {
+            int cmp = Long.compare(parse(left[i]), parse(right[i]));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return a.compareTo(b);
+    }
+
+    private static long parse(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.streamhub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.streamhub.entity.SystemAuditLog;
+import com.streamhub.repository.SystemAuditLogBulkRepository;
+import com.streamhub.util.BoundedRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous write pipeline for the audit trail.
+ * Committed changes are queued in a bounded lock-free ring buffer and a dedicated thread turns them into
+ * system_audit_log rows, inserted in JDBC batches. When the buffer is full or a batch fails, rows go to the
+ * local {@link AuditSpool} instead, and are replayed once the database accepts writes again.
+ */
+@Component
+public class AuditTrailWriter {
+
+    private static final Logger logger = Logger.getLogger(AuditTrailWriter.class.getName());
+
+    private final SystemAuditLogBulkRepository bulkRepository;
+    private final AuditSpool spool;
+    private final ObjectWriter jsonWriter;
+    private final boolean enabled;
+    private final BoundedRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryIntervalNanos;
+    private final long shutdownTimeoutMs;
+
+    private final LongAdder captured = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder spooled = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder lost = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    private Thread writer;
+    private volatile boolean parked;
+    private volatile boolean stopping;
+    private long lastFailureNanos;
+    private boolean failing;
+
+    public AuditTrailWriter(SystemAuditLogBulkRepository bulkRepository, AuditSpool spool, ObjectMapper objectMapper,
+                            @Value("${streamhub.audit.enabled:true}") boolean enabled,
+                            @Value("${streamhub.audit.capacity:32768}") int capacity,
+                            @Value("${streamhub.audit.batch-size:500}") int batchSize,
+                            @Value("${streamhub.audit.flush-interval-ms:500}") long flushIntervalMs,
+                            @Value("${streamhub.audit.spool.retry-interval-ms:30000}") long retryIntervalMs,
+                            @Value("${streamhub.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.bulkRepository = bulkRepository;
+        this.spool = spool;
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.enabled = enabled;
+        this.buffer = new BoundedRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(retryIntervalMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = new Thread(this::drainLoop, "audit-trail-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a committed change; when the buffer is full it is spooled to disk on the calling thread
+     */
+    public void enqueue(AuditEvent event) {
+        if (!enabled) {
+            return;
+        }
+        captured.increment();
+        if (!stopping && buffer.offer(event)) {
+            if (parked && buffer.size() >= batchSize) {
+                LockSupport.unpark(writer);
+            }
+            return;
+        }
+        spoolRows(List.of(toRow(event)));
+    }
+
+    public AuditStats getStatistics() {
+        return new AuditStats(enabled, buffer.capacity(), buffer.size(), captured.sum(), written.sum(), spooled.sum(),
+            replayed.sum(), lost.sum(), failedBatches.sum(), spool.fileCount());
+    }
+
+    /**
+     * Stop the writer after it has flushed or spooled what is pending
+     */
+    @PreDestroy
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        stopping = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warning("Audit trail writer did not finish within " + shutdownTimeoutMs + " ms, "
+                + buffer.size() + " changes not written");
+        }
+        // An enqueue that saw stopping unset can land after the writer's last drain; spool it for the next start
+        List<AuditEvent> late = new ArrayList<>();
+        buffer.drainTo(late, buffer.capacity());
+        if (!late.isEmpty()) {
+            List<SystemAuditLog> rows = new ArrayList<>(late.size());
+            for (AuditEvent event : late) {
+                rows.add(toRow(event));
+            }
+            spoolRows(rows);
+        }
+        spool.rotate();
+    }
+
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long batchStarted = 0;
+        while (true) {
+            boolean finishing = stopping;
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (wasEmpty && !batch.isEmpty()) {
+                batchStarted = System.nanoTime();
+            }
+
+            long waited = System.nanoTime() - batchStarted;
+            if (batch.size() >= batchSize || (!batch.isEmpty() && (finishing || waited >= flushIntervalNanos))) {
+                write(batch);
+                batch.clear();
+                continue;
+            }
+            if (finishing && batch.isEmpty()) {
+                return;
+            }
+            if (batch.isEmpty()) {
+                replaySpool();
+            }
+
+            parked = true;
+            LockSupport.parkNanos(batch.isEmpty() ? flushIntervalNanos : flushIntervalNanos - waited);
+            parked = false;
+        }
+    }
+
+    private void write(List<AuditEvent> events) {
+        List<SystemAuditLog> rows = new ArrayList<>(events.size());
+        for (AuditEvent event : events) {
+            rows.add(toRow(event));
+        }
+        // While the database is failing, go straight to the spool instead of waiting on it for every batch
+        if (failing && System.nanoTime() - lastFailureNanos < retryIntervalNanos) {
+            spoolRows(rows);
+            return;
+        }
+        try {
+            bulkRepository.insertBatch(rows);
+            written.add(rows.size());
+            failing = false;
+        } catch (DataAccessException e) {
+            failedBatches.increment();
+            failing = true;
+            lastFailureNanos = System.nanoTime();
+            logger.warning("Writing " + rows.size() + " audit rows failed, spooling them: " + e.getMessage());
+            spoolRows(rows);
+        }
+    }
+
+    private void replaySpool() {
+        if (failing && System.nanoTime() - lastFailureNanos < retryIntervalNanos) {
+            return;
+        }
+        if (!spool.hasPending()) {
+            return;
+        }
+        try {
+            long rows = spool.replay(batchSize, batch -> {
+                bulkRepository.insertBatch(batch);
+                written.add(batch.size());
+                replayed.add(batch.size());
+            });
+            failing = false;
+            if (rows > 0) {
+                logger.info("Replayed " + rows + " spooled audit rows");
+            }
+        } catch (DataAccessException | UncheckedIOException e) {
+            failing = true;
+            lastFailureNanos = System.nanoTime();
+            logger.warning("Replaying the audit spool failed, retrying later: " + e.getMessage());
+        }
+    }
+
+    private void spoolRows(List<SystemAuditLog> rows) {
+        try {
+            spool.append(rows);
+            spooled.add(rows.size());
+        } catch (IOException e) {
+            lost.add(rows.size());
+            logger.severe("Spooling " + rows.size() + " audit rows failed, they are lost: " + e.getMessage());
+        }
+    }
+
+    private SystemAuditLog toRow(AuditEvent event) {
+        return SystemAuditLog.builder()
+            .tableName(event.tableName())
+            .action(event.action())
+            .recordId(event.recordId())
+            .oldValue(toJson(event.oldValues()))
+            .newValue(toJson(event.newValues()))
+            .performedBy(event.performedBy())
+            .timestamp(event.timestamp())
+            .build();
+    }
+
+    private String toJson(Map<String, Object> values) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return jsonWriter.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            logger.warning("Could not serialize audit values: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * One committed change: INSERT carries the new values, DELETE the old ones, UPDATE only the changed columns
+     */
+    public record AuditEvent(String tableName, String action, long recordId, Map<String, Object> oldValues,
+                             Map<String, Object> newValues, String performedBy, LocalDateTime timestamp) {
+    }
+
+    public record AuditStats(boolean enabled, int capacity, int pending, long captured, long written, long spooled,
+                             long replayed, long lost, long failedBatches, int spoolFiles) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.streamhub.service;
+
+import com.streamhub.dto.CatalogResponseDTO;
+import com.streamhub.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicting cache of catalog responses.
+ * Every key carries the catalog version it was computed under; the version is bumped after each
+ * committed content write, so a page computed before the write can never be served after it.
+ */
+@Component
+public class CatalogCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final AtomicLong version = new AtomicLong(1);
+    // Versions restart at 1 on every boot and count independently on every node; the epoch tells them apart
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private volatile long lastModified = System.currentTimeMillis();
+    private final Map<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CatalogCache(@Value("${streamhub.catalog-cache.enabled:true}") boolean enabled,
+                        @Value("${streamhub.catalog-cache.max-entries:1000}") int maxEntries,
+                        @Value("${streamhub.catalog-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > CatalogCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached response for the request, computing and caching it on a miss
+     */
+    public CatalogResponseDTO get(String endpoint, String filter, int page, int pageSize,
+                                  String sortBy, String sortDirection, String after,
+                                  Supplier<CatalogResponseDTO> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(endpoint, filter, page, pageSize, sortBy, sortDirection.toLowerCase(), after, version.get());
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - now > 0) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        CatalogResponseDTO value = loader.get();
+        // Only store results computed under the version that is still current
+        if (key.version == version.get()) {
+            synchronized (entries) {
+                entries.put(key, new Entry(value, now + ttlNanos));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Bump the catalog version once the current transaction commits, or immediately outside one.
+     * After-commit actions run in registration order, so call this after registering the write's index updates.
+     */
+    public void invalidate() {
+        AfterCommit.run(this::bumpVersion);
+    }
+
+    /**
+     * Current catalog version of this instance
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Current catalog version qualified by this instance's epoch, for entity tags that clients keep across
+     * restarts and load-balanced nodes
+     */
+    public String getVersionTag() {
+        return epoch + "." + version.get();
+    }
+
+    /**
+     * Epoch millis of the last committed content write seen by this node (or of startup)
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public CacheStats getStatistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(enabled, size, maxEntries, version.get(), hits.sum(), misses.sum(),
+            evictions.sum(), expirations.sum(), invalidations.sum());
+    }
+
+    private void bumpVersion() {
+        lastModified = System.currentTimeMillis();
+        version.incrementAndGet();
+        invalidations.increment();
+        // Entries of older versions are unreachable now, release them eagerly
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record Key(String endpoint, String filter, int page, int pageSize,
+                       String sortBy, String sortDirection, String after, long version) {
+    }
+
+    private record Entry(CatalogResponseDTO value, long expiresAt) {
+    }
+
+    /**
+     * Snapshot of cache counters used to size the cache
+     */
+    public record CacheStats(boolean enabled, int size, int maxEntries, long version, long hits, long misses,
+                             long evictions, long expirations, long invalidations) {
+
+        public double getHitRatio() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.streamhub.service;
+
+import com.streamhub.repository.projection.CatalogItemView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor.
+ * Encodes the sort property, direction, sort key and id of the last row of a page.
+ * A row without a sort key (legacy rows with a NULL created_at) is encoded with an empty key.
+ */
+public final class CatalogCursor {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '|';
+
+    private final String sortBy;
+    private final String direction;
+    private final Object key;
+    private final Long id;
+
+    private CatalogCursor(String sortBy, String direction, Object key, Long id) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.key = key;
+        this.id = id;
+    }
+
+    /**
+     * Whether keyset pagination can be used for the given sort property
+     */
+    public static boolean isSeekable(String sortBy) {
+        return "createdAt".equals(sortBy) || "id".equals(sortBy);
+    }
+
+    /**
+     * Build the cursor pointing after the given row
+     */
+    public static CatalogCursor after(CatalogItemView last, String sortBy, String direction) {
+        Object key = "id".equals(sortBy) ? last.id() : last.createdAt();
+        return new CatalogCursor(sortBy, direction.toLowerCase(), key, last.id());
+    }
+
+    /**
+     * Decode a cursor and check that it was issued for the same ordering
+     */
+    public static CatalogCursor decode(String token, String sortBy, String direction) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        if (!parts[1].equals(sortBy) || !parts[2].equalsIgnoreCase(direction)) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+
+        try {
+            Long id = Long.valueOf(parts[4]);
+            Object key = "id".equals(sortBy) ? id : parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]);
+            return new CatalogCursor(parts[1], parts[2], key, id);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + sortBy + SEPARATOR + direction
+            + SEPARATOR + (key != null ? key : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sort key of the last row, or null when that row has none
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,81 @@
+package com.streamhub.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.streamhub.repository.ContentRepository;
+import com.streamhub.repository.projection.ContentExportView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Streams the content table as newline-delimited JSON.
+ * Rows come from a server-side cursor of the export pool in fetch-size batches and are written as they
+ * arrive, so heap use does not depend on the number of rows exported and no connection of the main pool
+ * is held for the length of the download.
+ */
+@Service
+public class CatalogExportService {
+
+    private static final Logger logger = Logger.getLogger(CatalogExportService.class.getName());
+
+    private final ContentRepository contentRepository;
+    private final ObjectWriter rowWriter;
+    private final int fetchSize;
+    private final int flushEvery;
+    private final long timeoutMillis;
+
+    public CatalogExportService(ContentRepository contentRepository, ObjectMapper objectMapper,
+                                @Value("${streamhub.export.fetch-size:1000}") int fetchSize,
+                                @Value("${streamhub.export.flush-every:1000}") int flushEvery,
+                                @Value("${streamhub.export.timeout-ms:3600000}") long timeoutMillis) {
+        this.contentRepository = contentRepository;
+        // One JSON document per line, regardless of the indent-output setting of the API
+        this.rowWriter = objectMapper.writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Async request timeout for an export response, which outlives the application-wide default
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Write every content row matching the filters to the stream, one JSON object per line
+     *
+     * @return the number of rows written
+     */
+    public long exportNdjson(String contentType, String genre, String status, OutputStream out) throws IOException {
+        logger.fine(() -> "Exporting catalog - type=" + contentType + ", genre=" + genre + ", status=" + status);
+        long started = System.nanoTime();
+        long rows = 0;
+
+        try (Stream<ContentExportView> stream = contentRepository.streamExport(contentType, genre, status, fetchSize)) {
+            Iterator<ContentExportView> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeValue(out, iterator.next());
+                out.write('\n');
+                if (++rows % flushEvery == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+
+        logger.info("Catalog export finished: " + rows + " rows in " + (System.nanoTime() - started) / 1_000_000 + " ms");
+        return rows;
+    }
+}
@@ -0,0 +1,192 @@
+package com.streamhub.service;
+
+import com.streamhub.repository.ContentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Incrementally maintained content counts by status, content type, genre and language.
+ * Seeded from GROUP BY queries, then updated from the content write paths after commit with lock-free adders,
+ * and periodically reconciled against the database to heal any drift.
+ */
+@Component
+public class CatalogStatistics {
+
+    private static final Logger logger = Logger.getLogger(CatalogStatistics.class.getName());
+    static final String UNSPECIFIED = "UNSPECIFIED";
+
+    private final ContentRepository contentRepository;
+    private final boolean enabled;
+
+    private final LongAdder total = new LongAdder();
+    private final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byContentType = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byGenre = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byLanguage = new ConcurrentHashMap<>();
+
+    // Bumped by every applied write; reconciliation only overwrites counters when no write raced with it
+    private final AtomicLong writeSequence = new AtomicLong();
+    private volatile boolean seeded;
+    private volatile long lastReconciled;
+
+    public CatalogStatistics(ContentRepository contentRepository,
+                             @Value("${streamhub.stats.in-memory.enabled:true}") boolean enabled) {
+        this.contentRepository = contentRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether counters are seeded and can be served instead of COUNT queries
+     */
+    public boolean isReady() {
+        return enabled && seeded;
+    }
+
+    public void onCreated(ContentAttributes created) {
+        writeSequence.incrementAndGet();
+        total.increment();
+        apply(created, 1);
+    }
+
+    public void onUpdated(ContentAttributes before, ContentAttributes after) {
+        if (before.equals(after)) {
+            return;
+        }
+        writeSequence.incrementAndGet();
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    public void onDeleted(ContentAttributes deleted) {
+        writeSequence.incrementAndGet();
+        total.decrement();
+        apply(deleted, -1);
+    }
+
+    /**
+     * Seed on the first run, then compare with the database and overwrite counters that drifted
+     */
+    @Scheduled(initialDelayString = "${streamhub.stats.reconcile-initial-delay-ms:0}",
+               fixedDelayString = "${streamhub.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        long sequence = writeSequence.get();
+        long started = System.nanoTime();
+
+        long dbTotal = contentRepository.count();
+        Map<String, Long> dbStatus = toMap(contentRepository.countGroupedByStatus());
+        Map<String, Long> dbType = toMap(contentRepository.countGroupedByContentType());
+        Map<String, Long> dbGenre = toMap(contentRepository.countGroupedByGenre());
+        Map<String, Long> dbLanguage = toMap(contentRepository.countGroupedByLanguage());
+
+        boolean raced = writeSequence.get() != sequence;
+        if (raced && seeded) {
+            logger.info("Skipping statistics reconciliation, content was written while counting");
+            return;
+        }
+        // The first snapshot is applied even if writes raced with it: under continuous writes a seed that waits for
+        // a quiet moment may never happen, while the deltas alone are not totals. The next run corrects the drift.
+
+        long drift = Math.abs(dbTotal - total.sum());
+        total.add(dbTotal - total.sum());
+        drift += overwrite(byStatus, dbStatus) + overwrite(byContentType, dbType)
+            + overwrite(byGenre, dbGenre) + overwrite(byLanguage, dbLanguage);
+
+        lastReconciled = System.currentTimeMillis();
+        if (!seeded) {
+            seeded = true;
+            logger.info("Content statistics seeded: " + dbTotal + " rows in " + (System.nanoTime() - started) / 1_000_000 + " ms"
+                + (raced ? ", concurrent writes are corrected by the next reconciliation" : ""));
+        } else if (drift > 0) {
+            logger.warning("Content statistics reconciled, corrected drift of " + drift);
+        }
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long countByStatus(String status) {
+        LongAdder adder = byStatus.get(status);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return snapshot(byStatus);
+    }
+
+    public Map<String, Long> getByContentType() {
+        return snapshot(byContentType);
+    }
+
+    public Map<String, Long> getByGenre() {
+        return snapshot(byGenre);
+    }
+
+    public Map<String, Long> getByLanguage() {
+        return snapshot(byLanguage);
+    }
+
+    public long getLastReconciled() {
+        return lastReconciled;
+    }
+
+    private void apply(ContentAttributes attributes, int delta) {
+        adder(byStatus, attributes.status()).add(delta);
+        adder(byContentType, attributes.contentType()).add(delta);
+        adder(byGenre, attributes.genre()).add(delta);
+        adder(byLanguage, attributes.language()).add(delta);
+    }
+
+    private static LongAdder adder(Map<String, LongAdder> counters, String key) {
+        return counters.computeIfAbsent(key != null ? key : UNSPECIFIED, k -> new LongAdder());
+    }
+
+    private static long overwrite(Map<String, LongAdder> counters, Map<String, Long> actual) {
+        long drift = 0;
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            if (!actual.containsKey(entry.getKey())) {
+                long stale = entry.getValue().sum();
+                drift += Math.abs(stale);
+                entry.getValue().add(-stale);
+            }
+        }
+        for (Map.Entry<String, Long> entry : actual.entrySet()) {
+            LongAdder adder = adder(counters, entry.getKey());
+            long diff = entry.getValue() - adder.sum();
+            drift += Math.abs(diff);
+            adder.add(diff);
+        }
+        return drift;
+    }
+
+    private static Map<String, Long> toMap(List<Object[]> rows) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : rows) {
+            counts.merge(row[0] != null ? row[0].toString() : UNSPECIFIED, ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((key, adder) -> {
+            long value = adder.sum();
+            if (value != 0) {
+                counts.put(key, value);
+            }
+        });
+        return counts;
+    }
+}
@@ -0,0 +1,15 @@
+package com.streamhub.service;
+
+import com.streamhub.entity.Content;
+
+/**
+ * Snapshot of the categorical columns of a content row that in-memory aggregates are keyed by.
+ * Taken before an update or delete so the old values can be subtracted after commit.
+ */
+public record ContentAttributes(String status, String contentType, String genre, String language, String rating) {
+
+    public static ContentAttributes of(Content content) {
+        return new ContentAttributes(content.getStatus(), content.getContentType(), content.getGenre(),
+            content.getLanguage(), content.getRating());
+    }
+}
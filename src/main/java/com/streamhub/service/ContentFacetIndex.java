@@ -0,0 +1,416 @@
+package com.streamhub.service;
+
+import com.streamhub.repository.ContentRepository;
+import com.streamhub.repository.projection.ContentFacetView;
+import com.streamhub.util.LongIntHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+/**
+ * In-memory facet index over content type, genre, language, rating and status.
+ * Every content row gets a dense slot; each distinct facet value keeps a bitset of the slots carrying it,
+ * so filters are bitset intersections and facet counts are cardinalities. Values compare case-insensitively.
+ * The index is rebuilt at startup and kept current by the content write paths after each commit.
+ */
+@Component
+public class ContentFacetIndex {
+
+    private static final Logger logger = Logger.getLogger(ContentFacetIndex.class.getName());
+
+    public enum FacetField {
+        CONTENT_TYPE("contentType"),
+        GENRE("genre"),
+        LANGUAGE("language"),
+        RATING("rating"),
+        STATUS("status");
+
+        private final String param;
+
+        FacetField(String param) {
+            this.param = param;
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        String valueOf(ContentAttributes attributes) {
+            return switch (this) {
+                case CONTENT_TYPE -> attributes.contentType();
+                case GENRE -> attributes.genre();
+                case LANGUAGE -> attributes.language();
+                case RATING -> attributes.rating();
+                case STATUS -> attributes.status();
+            };
+        }
+    }
+
+    private static final FacetField[] FIELDS = FacetField.values();
+
+    private final boolean enabled;
+    private final int rebuildBatchSize;
+    private final ContentRepository contentRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final LongIntHashMap slotById = new LongIntHashMap(1024, -1);
+    private long[] contentIds = new long[1024];
+    private String[][] slotValues = new String[FIELDS.length][1024];
+    private final List<Map<String, FacetValue>> values = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private int slotCount;
+    private int liveCount;
+    // Ids written by the application while a rebuild is running; the rebuild must not overwrite them
+    private LongIntHashMap writtenDuringRebuild;
+    private volatile boolean ready;
+
+    public ContentFacetIndex(ContentRepository contentRepository,
+                             @Value("${streamhub.facets.enabled:true}") boolean enabled,
+                             @Value("${streamhub.facets.rebuild-batch-size:5000}") int rebuildBatchSize) {
+        this.contentRepository = contentRepository;
+        this.enabled = enabled;
+        this.rebuildBatchSize = rebuildBatchSize;
+        for (int i = 0; i < FIELDS.length; i++) {
+            values.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Whether the index is populated and can answer queries
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "content-facet-index-rebuild");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Reload every content row, reading the table in keyset-ordered batches of id
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            clear();
+            writtenDuringRebuild = new LongIntHashMap(64, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long afterId = 0;
+            List<ContentFacetView> batch;
+            do {
+                batch = contentRepository.findFacetDocuments(afterId, PageRequest.of(0, rebuildBatchSize));
+                for (ContentFacetView view : batch) {
+                    index(view.getId(), new ContentAttributes(view.getStatus(), view.getContentType(),
+                        view.getGenre(), view.getLanguage(), view.getRating()), true);
+                    afterId = view.getId();
+                }
+            } while (batch.size() == rebuildBatchSize);
+            ready = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        logger.info("Facet index rebuilt: " + liveCount + " documents in "
+            + (System.nanoTime() - started) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Add a content item or move it to its new facet values, keeping its slot
+     */
+    public void index(long contentId, ContentAttributes attributes) {
+        index(contentId, attributes, false);
+    }
+
+    private void index(long contentId, ContentAttributes attributes, boolean fromRebuild) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                if (fromRebuild && writtenDuringRebuild.get(contentId) != 0) {
+                    return;
+                }
+                if (!fromRebuild) {
+                    writtenDuringRebuild.put(contentId, 1);
+                }
+            }
+
+            int existing = slotById.get(contentId);
+            int slot = existing >= 0 ? existing : slotCount++;
+            if (existing >= 0) {
+                clearValues(slot);
+            } else {
+                if (slot == contentIds.length) {
+                    contentIds = Arrays.copyOf(contentIds, slot * 2);
+                    for (int f = 0; f < FIELDS.length; f++) {
+                        slotValues[f] = Arrays.copyOf(slotValues[f], slot * 2);
+                    }
+                }
+                contentIds[slot] = contentId;
+                slotById.put(contentId, slot);
+                live.set(slot);
+                liveCount++;
+            }
+
+            for (int f = 0; f < FIELDS.length; f++) {
+                String label = label(FIELDS[f].valueOf(attributes));
+                String key = key(label);
+                values.get(f).computeIfAbsent(key, k -> new FacetValue(label)).slots.set(slot);
+                slotValues[f][slot] = key;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long contentId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.put(contentId, 1);
+            }
+            int slot = slotById.remove(contentId);
+            if (slot < 0) {
+                return;
+            }
+            clearValues(slot);
+            live.clear(slot);
+            liveCount--;
+
+            int dead = slotCount - liveCount;
+            if (dead > 1024 && dead > liveCount / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether a content item with the given id is indexed
+     */
+    public boolean contains(long contentId) {
+        lock.readLock().lock();
+        try {
+            return slotById.get(contentId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intersect the filters and count facet values. Values within one field are OR-ed, fields are AND-ed.
+     * Counts for a field apply every filter except that field's own, so sibling values stay selectable.
+     *
+     * @param filters accepted values per field; absent fields are unfiltered
+     * @param offset number of matching items to skip, newest first
+     * @param limit maximum number of item ids to return
+     */
+    public FacetResult search(Map<FacetField, List<String>> filters, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<FacetField, BitSet> selected = new EnumMap<>(FacetField.class);
+            for (Map.Entry<FacetField, List<String>> filter : filters.entrySet()) {
+                BitSet union = new BitSet();
+                Map<String, FacetValue> fieldValues = values.get(filter.getKey().ordinal());
+                for (String value : filter.getValue()) {
+                    FacetValue facetValue = fieldValues.get(key(value));
+                    if (facetValue != null) {
+                        union.or(facetValue.slots);
+                    }
+                }
+                selected.put(filter.getKey(), union);
+            }
+
+            BitSet matching = intersect(selected, null);
+            int total = matching.cardinality();
+            long[] ids = new long[Math.max(0, Math.min(limit, total - offset))];
+            int skipped = 0;
+            int found = 0;
+            for (int slot = matching.previousSetBit(slotCount - 1); slot >= 0 && found < ids.length;
+                 slot = matching.previousSetBit(slot - 1)) {
+                if (skipped++ >= offset) {
+                    ids[found++] = contentIds[slot];
+                }
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (FacetField field : FIELDS) {
+                // Value bitsets only hold live slots, so with no other filter their cardinality is the count
+                boolean unfiltered = selected.isEmpty() || (selected.size() == 1 && selected.containsKey(field));
+                BitSet scope = unfiltered ? null : intersect(selected, field);
+                facets.put(field.getParam(), count(values.get(field.ordinal()), scope, filters.get(field)));
+            }
+            return new FacetResult(ids, total, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public FacetStats getStatistics() {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> distinctValues = new LinkedHashMap<>();
+            for (FacetField field : FIELDS) {
+                distinctValues.put(field.getParam(), values.get(field.ordinal()).size());
+            }
+            return new FacetStats(isReady(), liveCount, slotCount - liveCount, distinctValues);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Live slots passing every selected filter except the excluded field's
+     */
+    private BitSet intersect(Map<FacetField, BitSet> selected, FacetField excluded) {
+        BitSet result = (BitSet) live.clone();
+        for (Map.Entry<FacetField, BitSet> entry : selected.entrySet()) {
+            if (entry.getKey() != excluded) {
+                result.and(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Non-zero counts of each value within scope (null for every live slot), largest first;
+     * selected values are always listed
+     */
+    private static Map<String, Integer> count(Map<String, FacetValue> fieldValues, BitSet scope, List<String> selected) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        for (FacetValue value : fieldValues.values()) {
+            int count;
+            if (scope == null) {
+                count = value.slots.cardinality();
+            } else {
+                BitSet hits = (BitSet) value.slots.clone();
+                hits.and(scope);
+                count = hits.cardinality();
+            }
+            if (count > 0 || (selected != null && selected.stream().anyMatch(s -> key(s).equals(key(value.label))))) {
+                counts.add(Map.entry(value.label, count));
+            }
+        }
+        counts.sort((a, b) -> a.getValue().equals(b.getValue())
+            ? a.getKey().compareTo(b.getKey())
+            : Integer.compare(b.getValue(), a.getValue()));
+
+        Map<String, Integer> ordered = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : counts) {
+            ordered.put(entry.getKey(), entry.getValue());
+        }
+        return ordered;
+    }
+
+    private void clearValues(int slot) {
+        for (int f = 0; f < FIELDS.length; f++) {
+            String key = slotValues[f][slot];
+            FacetValue value = values.get(f).get(key);
+            if (value != null) {
+                value.slots.clear(slot);
+                if (value.slots.isEmpty()) {
+                    values.get(f).remove(key);
+                }
+            }
+            slotValues[f][slot] = null;
+        }
+    }
+
+    /**
+     * Drop removed slots and renumber the survivors, preserving their order
+     */
+    private void compact() {
+        int next = 0;
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            contentIds[next] = contentIds[slot];
+            for (int f = 0; f < FIELDS.length; f++) {
+                slotValues[f][next] = slotValues[f][slot];
+            }
+            slotById.put(contentIds[next], next);
+            next++;
+        }
+        for (int f = 0; f < FIELDS.length; f++) {
+            Arrays.fill(slotValues[f], next, slotCount, null);
+            for (FacetValue value : values.get(f).values()) {
+                value.slots.clear();
+            }
+            for (int slot = 0; slot < next; slot++) {
+                values.get(f).get(slotValues[f][slot]).slots.set(slot);
+            }
+        }
+        live.clear();
+        live.set(0, next);
+        slotCount = next;
+    }
+
+    private void clear() {
+        slotById.clear();
+        for (Map<String, FacetValue> fieldValues : values) {
+            fieldValues.clear();
+        }
+        for (String[] fieldSlots : slotValues) {
+            Arrays.fill(fieldSlots, null);
+        }
+        live.clear();
+        slotCount = 0;
+        liveCount = 0;
+    }
+
+    private static String label(String value) {
+        return value == null || value.isBlank() ? CatalogStatistics.UNSPECIFIED : value;
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class FacetValue {
+        private final String label;
+        private final BitSet slots = new BitSet();
+
+        FacetValue(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Matching content ids (newest first) for the requested window, the total match count
+     * and the value counts of every facet field
+     */
+    public record FacetResult(long[] contentIds, int total, Map<String, Map<String, Integer>> facets) {
+    }
+
+    public record FacetStats(boolean ready, int documents, int removedDocuments, Map<String, Integer> distinctValues) {
+    }
+}
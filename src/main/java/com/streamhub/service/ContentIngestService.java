@@ -0,0 +1,240 @@
+package com.streamhub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.streamhub.dto.BulkIngestResultDTO;
+import com.streamhub.entity.Content;
+import com.streamhub.repository.ContentBulkRepository;
+import com.streamhub.repository.ContentRepository;
+import com.streamhub.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Bulk content ingestion.
+ * Rows are validated up front, duplicate titles are found with one IN query per lookup chunk,
+ * and valid rows are inserted in JDBC batches, each batch committed in its own transaction; a batch the database
+ * rejects is split until only the offending rows are left out.
+ * The statistics, indexes and catalog version follow every batch as it commits.
+ */
+@Service
+public class ContentIngestService {
+
+    private static final Logger logger = Logger.getLogger(ContentIngestService.class.getName());
+    private static final int TITLE_LOOKUP_CHUNK = 1000;
+    // Values of the content_type and status ENUM columns
+    private static final Set<String> CONTENT_TYPES = new LinkedHashSet<>(List.of("VIDEO", "AUDIO", "EBOOK"));
+    private static final Set<String> STATUSES = new LinkedHashSet<>(List.of("ACTIVE", "ARCHIVED", "DRAFT"));
+
+    private final ContentRepository contentRepository;
+    private final ContentBulkRepository contentBulkRepository;
+    private final CatalogCache catalogCache;
+    private final ContentSearchIndex searchIndex;
+    private final CatalogStatistics catalogStatistics;
+    private final ContentFacetIndex facetIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int defaultBatchSize;
+    private final int maxBatchSize;
+
+    public ContentIngestService(ContentRepository contentRepository, ContentBulkRepository contentBulkRepository,
+                                CatalogCache catalogCache, ContentSearchIndex searchIndex,
+                                CatalogStatistics catalogStatistics, ContentFacetIndex facetIndex,
+                                PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                @Value("${streamhub.ingest.batch-size:1000}") int defaultBatchSize,
+                                @Value("${streamhub.ingest.max-batch-size:10000}") int maxBatchSize) {
+        this.contentRepository = contentRepository;
+        this.contentBulkRepository = contentBulkRepository;
+        this.catalogCache = catalogCache;
+        this.searchIndex = searchIndex;
+        this.catalogStatistics = catalogStatistics;
+        this.facetIndex = facetIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.defaultBatchSize = defaultBatchSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Insert the given content rows, reporting each rejected row instead of failing the whole request
+     *
+     * @param rows content to insert
+     * @param batchSize rows per JDBC batch and transaction, or null for the configured default
+     */
+    public BulkIngestResultDTO ingest(List<Content> rows, Integer batchSize) {
+        int size = batchSize != null ? batchSize : defaultBatchSize;
+        if (size < 1 || size > maxBatchSize) {
+            throw new IllegalArgumentException("batchSize must be between 1 and " + maxBatchSize);
+        }
+
+        logger.info("Bulk ingesting " + rows.size() + " content rows in batches of " + size);
+        long started = System.nanoTime();
+        List<BulkIngestResultDTO.RowError> errors = new ArrayList<>();
+
+        // Validate and drop duplicates within the request; titles compare case-insensitively like the column collation
+        List<Integer> candidates = new ArrayList<>(rows.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Content content = rows.get(i);
+            String error = validate(content);
+            if (error == null && !seen.add(titleKey(content.getTitle()))) {
+                error = "Duplicate title in request";
+            }
+            if (error != null) {
+                errors.add(new BulkIngestResultDTO.RowError(i, content != null ? content.getTitle() : null, error));
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Set<String> existing = findExistingTitles(candidates, rows);
+        List<Integer> accepted = new ArrayList<>(candidates.size());
+        for (Integer index : candidates) {
+            if (existing.contains(titleKey(rows.get(index).getTitle()))) {
+                errors.add(new BulkIngestResultDTO.RowError(index, rows.get(index).getTitle(),
+                    "Content with this title already exists"));
+            } else {
+                accepted.add(index);
+            }
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < accepted.size(); from += size) {
+            inserted += insertOrSplit(accepted.subList(from, Math.min(from + size, accepted.size())), rows, errors);
+        }
+
+        errors.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        long elapsedNanos = System.nanoTime() - started;
+        long elapsedMs = elapsedNanos / 1_000_000;
+        logger.info("Bulk ingest finished: " + inserted + " inserted, " + errors.size() + " rejected in " + elapsedMs + " ms");
+
+        return BulkIngestResultDTO.builder()
+            .status(errors.isEmpty() ? "success" : inserted > 0 ? "partial" : "error")
+            .received(rows.size())
+            .inserted(inserted)
+            .failed(errors.size())
+            .elapsedMs(elapsedMs)
+            .rowsPerSecond(elapsedNanos > 0 ? inserted * 1_000_000_000L / elapsedNanos : null)
+            .errors(errors.isEmpty() ? null : errors)
+            .build();
+    }
+
+    /**
+     * Insert the rows as one batch transaction. If the database rejects the batch, the halves are retried on their
+     * own, down to single rows, so only the rows the database refuses are reported.
+     *
+     * @return the number of rows inserted
+     */
+    private int insertOrSplit(List<Integer> batchIndexes, List<Content> rows, List<BulkIngestResultDTO.RowError> errors) {
+        List<Content> batch = new ArrayList<>(batchIndexes.size());
+        for (Integer index : batchIndexes) {
+            batch.add(rows.get(index));
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                contentBulkRepository.insertBatch(batch);
+                // Each committed batch is visible on its own, even if a later batch or the request fails
+                AfterCommit.run(() -> applyInserted(batch));
+                catalogCache.invalidate();
+            });
+            return batch.size();
+        } catch (DataAccessException e) {
+            if (batchIndexes.size() == 1) {
+                int index = batchIndexes.get(0);
+                errors.add(new BulkIngestResultDTO.RowError(index, rows.get(index).getTitle(),
+                    "Insert failed: " + e.getMostSpecificCause().getMessage()));
+                return 0;
+            }
+            logger.warning("Bulk insert batch starting at row " + batchIndexes.get(0) + " failed, retrying in halves: "
+                + e.getMessage());
+            int half = batchIndexes.size() / 2;
+            return insertOrSplit(batchIndexes.subList(0, half), rows, errors)
+                + insertOrSplit(batchIndexes.subList(half, batchIndexes.size()), rows, errors);
+        }
+    }
+
+    private void applyInserted(List<Content> batch) {
+        for (Content content : batch) {
+            ContentAttributes attributes = ContentAttributes.of(content);
+            catalogStatistics.onCreated(attributes);
+            if (content.getId() != null) {
+                searchIndex.index(content.getId(), content.getTitle(), content.getGenre(), content.getDescription());
+                facetIndex.index(content.getId(), attributes);
+            }
+        }
+    }
+
+    private Set<String> findExistingTitles(List<Integer> candidates, List<Content> rows) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += TITLE_LOOKUP_CHUNK) {
+            List<String> titles = new ArrayList<>();
+            for (Integer index : candidates.subList(from, Math.min(from + TITLE_LOOKUP_CHUNK, candidates.size()))) {
+                titles.add(rows.get(index).getTitle());
+            }
+            for (String title : contentRepository.findExistingTitles(titles)) {
+                existing.add(titleKey(title));
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Check a row against the content table's constraints, so one bad row does not fail a whole batch
+     */
+    private String validate(Content content) {
+        if (content == null) {
+            return "Row is empty";
+        }
+        if (content.getTitle() == null || content.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (content.getTitle().length() > 255) {
+            return "title must be at most 255 characters";
+        }
+        if (content.getContentType() == null || content.getContentType().isBlank()) {
+            return "contentType is required";
+        }
+        if (!CONTENT_TYPES.contains(content.getContentType())) {
+            return "contentType must be one of " + String.join(", ", CONTENT_TYPES);
+        }
+        if (content.getStatus() != null && !STATUSES.contains(content.getStatus())) {
+            return "status must be one of " + String.join(", ", STATUSES);
+        }
+        if (tooLong(content.getGenre(), 100)) {
+            return "genre must be at most 100 characters";
+        }
+        if (tooLong(content.getLanguage(), 50)) {
+            return "language must be at most 50 characters";
+        }
+        if (tooLong(content.getRating(), 50)) {
+            return "rating must be at most 50 characters";
+        }
+        if (content.getMetadata() != null) {
+            try {
+                objectMapper.readTree(content.getMetadata());
+            } catch (JsonProcessingException e) {
+                return "metadata must be valid JSON";
+            }
+        }
+        return null;
+    }
+
+    private static boolean tooLong(String value, int maxLength) {
+        return value != null && value.length() > maxLength;
+    }
+
+    private static String titleKey(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+}
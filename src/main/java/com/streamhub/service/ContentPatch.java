@@ -0,0 +1,205 @@
+package com.streamhub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validated partial update of a content row: the fields present in a PATCH body and the version it was based on.
+ * A field set to null clears the column; fields that are absent are left unchanged.
+ */
+public final class ContentPatch {
+
+    public enum Field {
+        TITLE("title", "title", Kind.TEXT, false, 255),
+        DESCRIPTION("description", "description", Kind.TEXT, true, 0),
+        CONTENT_TYPE("contentType", "content_type", Kind.TEXT, false, 50),
+        GENRE("genre", "genre", Kind.TEXT, true, 100),
+        LANGUAGE("language", "language", Kind.TEXT, true, 50),
+        METADATA("metadata", "metadata", Kind.JSON, true, 0),
+        RATING("rating", "rating", Kind.TEXT, true, 50),
+        THUMBNAIL_URL("thumbnailURL", "thumbnail_url", Kind.TEXT, true, 0),
+        DURATION("duration", "duration", Kind.INTEGER, true, 0),
+        STATUS("status", "status", Kind.STATUS, true, 0),
+        UPDATED_BY("updatedBy", "updated_by", Kind.TEXT, true, 255);
+
+        private final String property;
+        private final String column;
+        private final Kind kind;
+        private final boolean nullable;
+        private final int maxLength;
+
+        Field(String property, String column, Kind kind, boolean nullable, int maxLength) {
+            this.property = property;
+            this.column = column;
+            this.kind = kind;
+            this.nullable = nullable;
+            this.maxLength = maxLength;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+    }
+
+    private enum Kind {
+        TEXT,
+        INTEGER,
+        JSON,
+        STATUS
+    }
+
+    private static final String VERSION_PROPERTY = "versionId";
+    private static final Set<String> STATUSES = Set.of("ACTIVE", "ARCHIVED", "DRAFT");
+
+    /**
+     * Fields that the search index, facet index or catalog statistics are keyed by
+     */
+    private static final Set<Field> INDEXED = Set.of(Field.TITLE, Field.DESCRIPTION, Field.CONTENT_TYPE, Field.GENRE,
+        Field.LANGUAGE, Field.RATING, Field.STATUS);
+
+    private final int expectedVersion;
+    private final Map<Field, Object> values;
+
+    private ContentPatch(int expectedVersion, Map<Field, Object> values) {
+        this.expectedVersion = expectedVersion;
+        this.values = values;
+    }
+
+    /**
+     * Parse a PATCH body; versionId is required and every other key must be a patchable field
+     *
+     * @throws IllegalArgumentException for unknown fields, missing version or invalid values
+     */
+    public static ContentPatch parse(Map<String, Object> body, ObjectMapper objectMapper) {
+        if (body == null || !(body.get(VERSION_PROPERTY) instanceof Number version)) {
+            throw new IllegalArgumentException("versionId of the edited revision is required");
+        }
+        Map<Field, Object> values = new EnumMap<>(Field.class);
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            if (VERSION_PROPERTY.equals(entry.getKey())) {
+                continue;
+            }
+            Field field = field(entry.getKey());
+            values.put(field, convert(field, entry.getValue(), objectMapper));
+        }
+        if (values.isEmpty() || (values.size() == 1 && values.containsKey(Field.UPDATED_BY))) {
+            throw new IllegalArgumentException("No content fields to update");
+        }
+        return new ContentPatch(version.intValue(), values);
+    }
+
+    public int getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public Map<Field, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    public boolean contains(Field field) {
+        return values.containsKey(field);
+    }
+
+    public Object get(Field field) {
+        return values.get(field);
+    }
+
+    /**
+     * Whether applying the patch changes what the in-memory indexes and statistics hold for the row
+     */
+    public boolean touchesIndexedFields() {
+        for (Field field : values.keySet()) {
+            if (INDEXED.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * New values keyed by entity property, for the JPQL update
+     */
+    public Map<String, Object> propertyValues() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        values.forEach((field, value) -> properties.put(field.property, value));
+        return properties;
+    }
+
+    /**
+     * New values keyed by column, for the audit trail
+     */
+    public Map<String, Object> columnValues() {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        values.forEach((field, value) -> columns.put(field.column, value));
+        return columns;
+    }
+
+    public List<String> fieldNames() {
+        return values.keySet().stream().map(Field::getProperty).toList();
+    }
+
+    private static Field field(String property) {
+        for (Field field : Field.values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Field cannot be patched: " + property);
+    }
+
+    private static Object convert(Field field, Object value, ObjectMapper objectMapper) {
+        if (value == null) {
+            if (!field.nullable) {
+                throw new IllegalArgumentException(field.property + " must not be null");
+            }
+            return null;
+        }
+        switch (field.kind) {
+            case INTEGER -> {
+                if (!(value instanceof Number number) || number.doubleValue() != number.intValue()) {
+                    throw new IllegalArgumentException(field.property + " must be an integer");
+                }
+                return number.intValue();
+            }
+            case JSON -> {
+                if (value instanceof String text) {
+                    return text;
+                }
+                try {
+                    return objectMapper.writeValueAsString(value);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException(field.property + " is not valid JSON");
+                }
+            }
+            case STATUS -> {
+                if (!(value instanceof String status) || !STATUSES.contains(status)) {
+                    throw new IllegalArgumentException("status must be one of " + STATUSES);
+                }
+                return status;
+            }
+            default -> {
+                if (!(value instanceof String text)) {
+                    throw new IllegalArgumentException(field.property + " must be a string");
+                }
+                if (!field.nullable && text.isBlank()) {
+                    throw new IllegalArgumentException(field.property + " must not be blank");
+                }
+                if (field.maxLength > 0 && text.length() > field.maxLength) {
+                    throw new IllegalArgumentException(field.property + " must be at most " + field.maxLength + " characters");
+                }
+                return text;
+            }
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.streamhub.service;
+
+import com.streamhub.repository.ContentRepository;
+import com.streamhub.repository.projection.ContentSearchView;
+import com.streamhub.util.LongIntHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+/**
+ * In-memory inverted index over content title, genre and description.
+ * Terms are case-folded and accent-stripped; each term maps to a posting list of
+ * primitive document ordinals and weighted term frequencies. Queries are ranked with BM25.
+ * The index is rebuilt at startup and kept current by {@link ContentService} after each committed write.
+ */
+@Component
+public class ContentSearchIndex {
+
+    private static final Logger logger = Logger.getLogger(ContentSearchIndex.class.getName());
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int GENRE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float PREFIX_BOOST = 0.5f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final boolean enabled;
+    private final int rebuildBatchSize;
+    private final ContentRepository contentRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final TreeMap<String, PostingList> dictionary = new TreeMap<>();
+    private final LongIntHashMap ordinalById = new LongIntHashMap(1024, -1);
+    private long[] contentIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private final BitSet deleted = new BitSet();
+    private int docCount;
+    private int liveCount;
+    private long totalLength;
+    // Ids written by the application while a rebuild is running; the rebuild must not overwrite them
+    private LongIntHashMap writtenDuringRebuild;
+    private volatile boolean ready;
+
+    public ContentSearchIndex(ContentRepository contentRepository,
+                              @Value("${streamhub.search.index.enabled:true}") boolean enabled,
+                              @Value("${streamhub.search.index.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.contentRepository = contentRepository;
+        this.enabled = enabled;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /**
+     * Whether the index is populated and can answer queries
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "content-search-index-rebuild");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Reindex every content row, reading the table in keyset-ordered batches of id
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            clear();
+            writtenDuringRebuild = new LongIntHashMap(64, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long afterId = 0;
+            List<ContentSearchView> batch;
+            do {
+                batch = contentRepository.findSearchDocuments(afterId, PageRequest.of(0, rebuildBatchSize));
+                for (ContentSearchView view : batch) {
+                    index(view.getId(), view.getTitle(), view.getGenre(), view.getDescription(), true);
+                    afterId = view.getId();
+                }
+            } while (batch.size() == rebuildBatchSize);
+            ready = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        IndexStats stats = getStatistics();
+        logger.info("Search index rebuilt: " + stats.documents() + " documents, " + stats.terms() + " terms in "
+            + (System.nanoTime() - started) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Add or replace the document of a content item
+     */
+    public void index(long contentId, String title, String genre, String description) {
+        index(contentId, title, genre, description, false);
+    }
+
+    private void index(long contentId, String title, String genre, String description, boolean fromRebuild) {
+        Map<String, int[]> termFreqs = new HashMap<>();
+        int length = tokenizeInto(title, TITLE_WEIGHT, termFreqs)
+            + tokenizeInto(genre, GENRE_WEIGHT, termFreqs)
+            + tokenizeInto(description, DESCRIPTION_WEIGHT, termFreqs);
+
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                if (fromRebuild && writtenDuringRebuild.get(contentId) != 0) {
+                    return;
+                }
+                if (!fromRebuild) {
+                    writtenDuringRebuild.put(contentId, 1);
+                }
+            }
+            removeLocked(contentId);
+
+            int ordinal = docCount++;
+            if (ordinal == contentIds.length) {
+                contentIds = Arrays.copyOf(contentIds, ordinal * 2);
+                docLengths = Arrays.copyOf(docLengths, ordinal * 2);
+            }
+            contentIds[ordinal] = contentId;
+            docLengths[ordinal] = length;
+            ordinalById.put(contentId, ordinal);
+            liveCount++;
+            totalLength += length;
+
+            for (Map.Entry<String, int[]> entry : termFreqs.entrySet()) {
+                dictionary.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(ordinal, entry.getValue()[0]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long contentId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.put(contentId, 1);
+            }
+            removeLocked(contentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank documents matching any query term; the last term also matches as a prefix.
+     *
+     * @param query free text query
+     * @param offset number of ranked hits to skip
+     * @param limit maximum number of hits to return
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new SearchResult(new long[0], new float[0], 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> postings = new ArrayList<>();
+            List<Float> boosts = new ArrayList<>();
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                PostingList exact = dictionary.get(term);
+                if (exact != null) {
+                    postings.add(exact);
+                    boosts.add(1.0f);
+                }
+                if (i == terms.size() - 1) {
+                    NavigableMap<String, PostingList> prefixed = dictionary.subMap(term, false, term + Character.MAX_VALUE, false);
+                    int expansions = 0;
+                    for (PostingList list : prefixed.values()) {
+                        if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                            break;
+                        }
+                        postings.add(list);
+                        boosts.add(PREFIX_BOOST);
+                    }
+                }
+            }
+            return rank(postings, boosts, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public IndexStats getStatistics() {
+        lock.readLock().lock();
+        try {
+            return new IndexStats(isReady(), liveCount, docCount - liveCount, dictionary.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Merge the sorted posting lists document by document, scoring each match with BM25
+     * and keeping the best offset + limit hits in a bounded min-heap
+     */
+    private SearchResult rank(List<PostingList> postings, List<Float> boosts, int offset, int limit) {
+        int lists = postings.size();
+        int[] cursors = new int[lists];
+        float[] idf = new float[lists];
+        for (int i = 0; i < lists; i++) {
+            int df = postings.get(i).size;
+            idf[i] = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5)) * boosts.get(i);
+        }
+        float avgLength = liveCount == 0 ? 1 : (float) totalLength / liveCount;
+
+        int wanted = offset + limit;
+        PriorityQueue<ScoredDoc> top = new PriorityQueue<>(Math.max(1, Math.min(wanted, 1024)));
+        int total = 0;
+        while (true) {
+            int doc = Integer.MAX_VALUE;
+            for (int i = 0; i < lists; i++) {
+                PostingList list = postings.get(i);
+                if (cursors[i] < list.size && list.docs[cursors[i]] < doc) {
+                    doc = list.docs[cursors[i]];
+                }
+            }
+            if (doc == Integer.MAX_VALUE) {
+                break;
+            }
+
+            float score = 0;
+            float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+            for (int i = 0; i < lists; i++) {
+                PostingList list = postings.get(i);
+                if (cursors[i] < list.size && list.docs[cursors[i]] == doc) {
+                    int tf = list.freqs[cursors[i]++];
+                    score += idf[i] * (tf * (K1 + 1)) / (tf + norm);
+                }
+            }
+            if (deleted.get(doc)) {
+                continue;
+            }
+
+            total++;
+            if (wanted > 0 && (top.size() < wanted || top.peek().isWorseThan(score, doc))) {
+                if (top.size() == wanted) {
+                    top.poll();
+                }
+                top.add(new ScoredDoc(doc, score));
+            }
+        }
+
+        int hits = Math.max(0, top.size() - offset);
+        long[] ids = new long[hits];
+        float[] scores = new float[hits];
+        // The heap yields the worst hit first, i.e. rank top.size()-1 down to 0; the best offset ranks are skipped
+        for (int i = top.size() - 1; i >= 0; i--) {
+            ScoredDoc hit = top.poll();
+            if (i >= offset) {
+                ids[i - offset] = contentIds[hit.ordinal];
+                scores[i - offset] = hit.score;
+            }
+        }
+        return new SearchResult(ids, scores, total);
+    }
+
+    private void removeLocked(long contentId) {
+        int ordinal = ordinalById.remove(contentId);
+        if (ordinal < 0) {
+            return;
+        }
+        deleted.set(ordinal);
+        liveCount--;
+        totalLength -= docLengths[ordinal];
+
+        int dead = docCount - liveCount;
+        if (dead > 1024 && dead > liveCount / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * Drop deleted documents from every posting list and renumber the survivors
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int ordinal = 0; ordinal < docCount; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+            } else {
+                remap[ordinal] = next;
+                contentIds[next] = contentIds[ordinal];
+                docLengths[next] = docLengths[ordinal];
+                ordinalById.put(contentIds[next], next);
+                next++;
+            }
+        }
+        dictionary.values().removeIf(list -> list.compact(remap) == 0);
+        docCount = next;
+        deleted.clear();
+    }
+
+    private void clear() {
+        dictionary.clear();
+        ordinalById.clear();
+        deleted.clear();
+        docCount = 0;
+        liveCount = 0;
+        totalLength = 0;
+    }
+
+    /**
+     * Case-fold, strip accents and split on anything that is not a letter or digit
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static int tokenizeInto(String text, int weight, Map<String, int[]> termFreqs) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            termFreqs.computeIfAbsent(token, t -> new int[1])[0] += weight;
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * Ascending document ordinals with their weighted term frequencies
+     */
+    private static final class PostingList {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        int compact(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+
+    private record ScoredDoc(int ordinal, float score) implements Comparable<ScoredDoc> {
+
+        /**
+         * Newer documents (higher ordinals) win ties
+         */
+        boolean isWorseThan(float otherScore, int otherOrdinal) {
+            return score < otherScore || (score == otherScore && ordinal < otherOrdinal);
+        }
+
+        @Override
+        public int compareTo(ScoredDoc other) {
+            int byScore = Float.compare(score, other.score);
+            return byScore != 0 ? byScore : Integer.compare(ordinal, other.ordinal);
+        }
+    }
+
+    /**
+     * Ranked content ids for one page with their scores, and the total number of matches
+     */
+    public record SearchResult(long[] contentIds, float[] scores, int total) {
+    }
+
+    public record IndexStats(boolean ready, int documents, int deletedDocuments, int terms) {
+    }
+}
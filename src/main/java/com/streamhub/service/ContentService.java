@@ -4,15 +4,32 @@ import com.streamhub.dto.CatalogResponseDTO;
 import com.streamhub.entity.Content;
 import com.streamhub.mapper.ContentMapper;
 import com.streamhub.repository.ContentRepository;
+import com.streamhub.repository.ContentRepositoryCustom;
+import com.streamhub.repository.projection.CatalogItemShape;
+import com.streamhub.repository.projection.CatalogItemView;
+import com.streamhub.repository.projection.ContentPatchStateView;
+import com.streamhub.repository.projection.ContentScoreView;
+import com.streamhub.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -22,18 +39,39 @@ public class ContentService {
 
     private static final Logger logger = Logger.getLogger(ContentService.class.getName());
     private final ContentRepository contentRepository;
+    private final CatalogCache catalogCache;
+    private final ContentSearchIndex searchIndex;
+    private final CatalogStatistics catalogStatistics;
+    private final ContentFacetIndex facetIndex;
+    private final TrendingTracker trendingTracker;
+    private final AuditEventListener auditEventListener;
+    private final long trendingRefreshMillis;
+    private final SearchMode defaultSearchMode;
 
-    public ContentService(ContentRepository contentRepository) {
+    public ContentService(ContentRepository contentRepository, CatalogCache catalogCache,
+                          ContentSearchIndex searchIndex, CatalogStatistics catalogStatistics,
+                          ContentFacetIndex facetIndex, TrendingTracker trendingTracker,
+                          AuditEventListener auditEventListener,
+                          @Value("${streamhub.search.default-mode:index}") String defaultSearchMode,
+                          @Value("${streamhub.trending.refresh-seconds:30}") long trendingRefreshSeconds) {
         this.contentRepository = contentRepository;
+        this.catalogCache = catalogCache;
+        this.searchIndex = searchIndex;
+        this.catalogStatistics = catalogStatistics;
+        this.facetIndex = facetIndex;
+        this.trendingTracker = trendingTracker;
+        this.auditEventListener = auditEventListener;
+        this.trendingRefreshMillis = trendingRefreshSeconds * 1000;
+        this.defaultSearchMode = SearchMode.fromParam(defaultSearchMode);
     }
 
     private Page<Content> getAllContent(Pageable pageable) {
-        logger.info("Fetching content with pagination: page=" + pageable.getPageNumber() + ", size=" + pageable.getPageSize());
+        logger.fine(() -> "Fetching content with pagination: page=" + pageable.getPageNumber() + ", size=" + pageable.getPageSize());
         return contentRepository.findAll(pageable);
     }
 
     public Content createContent(Content content) {
-        logger.info("Creating new content: " + content.getTitle());
+        logger.fine(() -> "Creating new content: " + content.getTitle());
         
         if (contentRepository.existsByTitle(content.getTitle())) {
             logger.warning("Content with title '" + content.getTitle() + "' already exists");
@@ -41,76 +79,278 @@ public class ContentService {
         }
         
         Content savedContent = contentRepository.save(content);
-        logger.info("Content created successfully with ID: " + savedContent.getId());
+        indexAfterCommit(savedContent);
+        ContentAttributes created = ContentAttributes.of(savedContent);
+        AfterCommit.run(() -> catalogStatistics.onCreated(created));
+        // After the index updates, so a search in between cannot cache pre-write hits under the new version
+        catalogCache.invalidate();
+        logger.info(() -> "Content created successfully with ID: " + savedContent.getId());
         return savedContent;
     }
 
+    @Transactional(readOnly = true)
     public Optional<Content> getContentById(Long contentId) {
-        logger.fine("Fetching content with ID: " + contentId);
+        logger.fine(() -> "Fetching content with ID: " + contentId);
         return contentRepository.findById(contentId);
     }
 
-    private Page<Content> getCatalog(int page, int pageSize, String sortBy, String sortDirection) {
-        logger.info("Fetching catalog - page=" + page + ", pageSize=" + pageSize + 
-                    ", sortBy=" + sortBy + ", sortDirection=" + sortDirection);
-        
-        Sort.Direction direction = sortDirection.equalsIgnoreCase("asc") 
-            ? Sort.Direction.ASC 
-            : Sort.Direction.DESC;
-        
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(direction, sortBy));
-        return contentRepository.findAll(pageable);
-    }
-
-    public CatalogResponseDTO getCatalogResponse(int page, int pageSize, String sortBy, String sortDirection) {
-        logger.info("Building catalog response - page=" + page + ", pageSize=" + pageSize + 
-                    ", sortBy=" + sortBy + ", sortDirection=" + sortDirection);
-        
-        Page<Content> contentPage = getCatalog(page, pageSize, sortBy, sortDirection);
-        return ContentMapper.toCatalogResponseDTO(contentPage, page);
+    @Transactional(readOnly = true)
+    public CatalogResponseDTO getCatalogResponse(int page, int pageSize, String sortBy, String sortDirection,
+                                                 String after, boolean compact, boolean includeStream) {
+        CatalogItemShape shape = CatalogItemShape.of(compact, includeStream);
+        return catalogCache.get(endpoint("catalog", shape), null, page, pageSize, sortBy, sortDirection, after,
+            () -> getListing(null, null, null, shape, page, pageSize, sortBy, sortDirection, after));
     }
 
+    @Transactional(readOnly = true)
     public CatalogResponseDTO getContentByTypeResponse(String contentType, int page, int pageSize, 
-                                                      String sortBy, String sortDirection) {
-        logger.info("Building content by type response - type=" + contentType + ", page=" + page);
-        
-        Sort.Direction direction = sortDirection.equalsIgnoreCase("asc") 
-            ? Sort.Direction.ASC 
-            : Sort.Direction.DESC;
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(direction, sortBy));
-        Page<Content> contentPage = contentRepository.findByContentType(contentType, pageable);
-        return ContentMapper.toCatalogResponseDTO(contentPage, page);
+                                                      String sortBy, String sortDirection, String after,
+                                                      boolean compact, boolean includeStream) {
+        CatalogItemShape shape = CatalogItemShape.of(compact, includeStream);
+        return catalogCache.get(endpoint("type", shape), contentType, page, pageSize, sortBy, sortDirection, after,
+            () -> getListing(contentType, null, null, shape, page, pageSize, sortBy, sortDirection, after));
     }
 
+    @Transactional(readOnly = true)
     public CatalogResponseDTO getContentByGenreResponse(String genre, int page, int pageSize, 
-                                                       String sortBy, String sortDirection) {
-        logger.info("Building content by genre response - genre=" + genre + ", page=" + page);
-        
-        Sort.Direction direction = sortDirection.equalsIgnoreCase("asc") 
-            ? Sort.Direction.ASC 
-            : Sort.Direction.DESC;
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(direction, sortBy));
-        Page<Content> contentPage = contentRepository.findByGenre(genre, pageable);
-        return ContentMapper.toCatalogResponseDTO(contentPage, page);
+                                                       String sortBy, String sortDirection, String after,
+                                                       boolean compact, boolean includeStream) {
+        CatalogItemShape shape = CatalogItemShape.of(compact, includeStream);
+        return catalogCache.get(endpoint("genre", shape), genre, page, pageSize, sortBy, sortDirection, after,
+            () -> getListing(null, genre, null, shape, page, pageSize, sortBy, sortDirection, after));
     }
 
-    public CatalogResponseDTO searchContentResponse(String keyword, int page, int pageSize, 
-                                                    String sortBy, String sortDirection) {
-        logger.info("Building search response - keyword=" + keyword + ", page=" + page);
-        
-        Sort.Direction direction = sortDirection.equalsIgnoreCase("asc") 
+    /**
+     * Search content. INDEX mode ranks by relevance using the in-memory index, FULLTEXT and BOOLEAN
+     * rank by MySQL MATCH ... AGAINST on ft_content_search; ranked modes ignore sortBy and cursors.
+     * INDEX requests with a cursor or arriving before the index is built use the LIKE query.
+     */
+    @Transactional(readOnly = true)
+    public CatalogResponseDTO searchContentResponse(String keyword, String mode, int page, int pageSize, 
+                                                    String sortBy, String sortDirection, String after,
+                                                    boolean compact, boolean includeStream) {
+        SearchMode searchMode = mode != null ? SearchMode.fromParam(mode) : defaultSearchMode;
+        CatalogItemShape shape = CatalogItemShape.of(compact, includeStream);
+        if (searchMode == SearchMode.INDEX && after == null && searchIndex.isReady()) {
+            return catalogCache.get(endpoint("search:index", shape), keyword, page, pageSize, "relevance", "desc", null,
+                () -> searchIndexed(keyword, shape, page, pageSize));
+        }
+        if (searchMode == SearchMode.BOOLEAN) {
+            SearchMode.validateBooleanQuery(keyword);
+        }
+        if (searchMode == SearchMode.FULLTEXT || searchMode == SearchMode.BOOLEAN) {
+            return catalogCache.get(endpoint("search:" + searchMode.getParam(), shape), keyword, page, pageSize,
+                "relevance", "desc", null,
+                () -> searchFullText(keyword, searchMode == SearchMode.BOOLEAN, shape, page, pageSize));
+        }
+        return catalogCache.get(endpoint("search", shape), keyword, page, pageSize, sortBy, sortDirection, after,
+            () -> getListing(null, null, keyword, shape, page, pageSize, sortBy, sortDirection, after));
+    }
+
+    /**
+     * Faceted catalog listing answered from the in-memory facet index: the newest matching items
+     * plus per-value counts for content type, genre, language, rating and status.
+     * Each filter accepts comma-separated alternatives.
+     *
+     * @throws IllegalStateException while the facet index is still being built
+     */
+    @Transactional(readOnly = true)
+    public CatalogResponseDTO getFacetedCatalogResponse(String contentType, String genre, String language,
+                                                        String rating, String status, int page, int pageSize,
+                                                        boolean compact, boolean includeStream) {
+        if (!facetIndex.isReady()) {
+            throw new IllegalStateException("Facet index is still loading");
+        }
+
+        Map<ContentFacetIndex.FacetField, List<String>> filters = new EnumMap<>(ContentFacetIndex.FacetField.class);
+        addFacetFilter(filters, ContentFacetIndex.FacetField.CONTENT_TYPE, contentType);
+        addFacetFilter(filters, ContentFacetIndex.FacetField.GENRE, genre);
+        addFacetFilter(filters, ContentFacetIndex.FacetField.LANGUAGE, language);
+        addFacetFilter(filters, ContentFacetIndex.FacetField.RATING, rating);
+        addFacetFilter(filters, ContentFacetIndex.FacetField.STATUS, status);
+
+        StringBuilder filterKey = new StringBuilder();
+        filters.forEach((field, values) -> filterKey.append(field.getParam()).append('=')
+            .append(String.join(",", values).toLowerCase(Locale.ROOT)).append('&'));
+
+        CatalogItemShape shape = CatalogItemShape.of(compact, includeStream);
+        return catalogCache.get(endpoint("facets", shape), filterKey.toString(), page, pageSize, "id", "desc", null,
+            () -> {
+                ContentFacetIndex.FacetResult result = facetIndex.search(filters, page * pageSize, pageSize);
+                List<CatalogItemView> items = findAllInOrder(result.contentIds(), shape);
+                Page<CatalogItemView> itemPage = new PageImpl<>(items, PageRequest.of(page, pageSize), result.total());
+                CatalogResponseDTO response = ContentMapper.toCatalogResponseDTO(itemPage, page, null);
+                response.setFacets(result.facets());
+                return response;
+            });
+    }
+
+    /**
+     * Most viewed content in a sliding window, ranked from the in-memory trending sketches.
+     * The ranking and item rows are reused for up to the refresh interval.
+     *
+     * @param window 1h, 24h or 7d
+     */
+    @Transactional(readOnly = true)
+    public CatalogResponseDTO getTrendingResponse(String window, int limit, boolean compact, boolean includeStream) {
+        TrendingTracker.TrendingWindow trendingWindow = TrendingTracker.TrendingWindow.fromParam(window);
+        String filter = trendingWindow.getParam() + "@" + System.currentTimeMillis() / trendingRefreshMillis;
+        CatalogItemShape shape = CatalogItemShape.of(compact, includeStream);
+        return catalogCache.get(endpoint("trending", shape), filter, 0, limit, "views", "desc", null, () -> {
+            List<TrendingTracker.TrendingItem> top = trendingTracker.top(trendingWindow, limit);
+            long[] ids = new long[top.size()];
+            Map<Long, Double> views = new HashMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = top.get(i).contentId();
+                views.put(ids[i], (double) top.get(i).views());
+            }
+            List<CatalogItemView> items = findAllInOrder(ids, shape);
+            Page<CatalogItemView> itemPage = new PageImpl<>(items, PageRequest.of(0, Math.max(1, limit)), items.size());
+            return ContentMapper.toScoredCatalogResponseDTO(itemPage, 0, views);
+        });
+    }
+
+    private static void addFacetFilter(Map<ContentFacetIndex.FacetField, List<String>> filters,
+                                       ContentFacetIndex.FacetField field, String param) {
+        if (param == null) {
+            return;
+        }
+        List<String> values = new ArrayList<>();
+        for (String value : param.split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        if (!values.isEmpty()) {
+            filters.put(field, values);
+        }
+    }
+
+    private static String endpoint(String name, CatalogItemShape shape) {
+        String key = shape.isCompact() ? name + ":compact" : name;
+        return shape.includesStream() ? key + ":stream" : key;
+    }
+
+    /**
+     * Filtered catalog listing served from column projections: an offset page with a total,
+     * or a keyset slice when a cursor is given
+     */
+    private CatalogResponseDTO getListing(String contentType, String genre, String keyword, CatalogItemShape shape,
+                                          int page, int pageSize, String sortBy, String sortDirection,
+                                          String after) {
+        if (after != null) {
+            return getCatalogSliceResponse(contentType, genre, keyword, shape, page, pageSize,
+                sortBy, sortDirection, after);
+        }
+        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(toDirection(sortDirection), sortBy));
+        Page<CatalogItemView> itemPage = contentRepository.findCatalogItems(contentType, genre, keyword, shape, pageable);
+        // Offset pages also carry a cursor so clients can switch to keyset pagination after the first page
+        String nextCursor = CatalogCursor.isSeekable(sortBy) ? nextCursor(itemPage, sortBy, sortDirection) : null;
+        return ContentMapper.toCatalogResponseDTO(itemPage, page, nextCursor);
+    }
+
+    private CatalogResponseDTO searchIndexed(String keyword, CatalogItemShape shape, int page, int pageSize) {
+        ContentSearchIndex.SearchResult result = searchIndex.search(keyword, page * pageSize, pageSize);
+        long[] ids = result.contentIds();
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            scores.put(ids[i], (double) result.scores()[i]);
+        }
+        List<CatalogItemView> ranked = findAllInOrder(ids, shape);
+        Page<CatalogItemView> itemPage = new PageImpl<>(ranked, PageRequest.of(page, pageSize), result.total());
+        return ContentMapper.toScoredCatalogResponseDTO(itemPage, page, scores);
+    }
+
+    private CatalogResponseDTO searchFullText(String keyword, boolean booleanMode, CatalogItemShape shape,
+                                              int page, int pageSize) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Page<ContentScoreView> hits;
+        try {
+            hits = booleanMode
+                ? contentRepository.searchFullTextBoolean(keyword, pageable)
+                : contentRepository.searchFullText(keyword, pageable);
+        } catch (InvalidDataAccessResourceUsageException e) {
+            // A boolean query that passed validation can still be one MySQL's parser rejects
+            if (booleanMode) {
+                throw new IllegalArgumentException("Invalid boolean search query: " + keyword, e);
+            }
+            throw e;
+        }
+
+        long[] ids = new long[hits.getNumberOfElements()];
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            ContentScoreView hit = hits.getContent().get(i);
+            ids[i] = hit.getId();
+            scores.put(hit.getId(), hit.getScore());
+        }
+        List<CatalogItemView> ranked = findAllInOrder(ids, shape);
+        Page<CatalogItemView> itemPage = new PageImpl<>(ranked, pageable, hits.getTotalElements());
+        return ContentMapper.toScoredCatalogResponseDTO(itemPage, page, scores);
+    }
+
+    /**
+     * Load catalog rows by id, preserving the order of the ids
+     */
+    private List<CatalogItemView> findAllInOrder(long[] ids, CatalogItemShape shape) {
+        List<Long> idList = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            idList.add(id);
+        }
+        Map<Long, CatalogItemView> byId = new HashMap<>();
+        for (CatalogItemView item : contentRepository.findCatalogItemsByIds(idList, shape)) {
+            byId.put(item.id(), item);
+        }
+        List<CatalogItemView> ordered = new ArrayList<>(ids.length);
+        for (Long id : idList) {
+            CatalogItemView item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Keyset pagination: seek past the cursor instead of scanning an offset, and skip the COUNT query.
+     * An empty cursor starts from the first row.
+     */
+    private CatalogResponseDTO getCatalogSliceResponse(String contentType, String genre, String keyword,
+                                                       CatalogItemShape shape, int page, int pageSize, String sortBy,
+                                                       String sortDirection, String after) {
+        if (!CatalogCursor.isSeekable(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination is only supported when sorting by createdAt or id");
+        }
+
+        CatalogCursor cursor = after.isEmpty() ? null : CatalogCursor.decode(after, sortBy, sortDirection);
+        Slice<CatalogItemView> slice = contentRepository.findCatalogItemSlice(contentType, genre, keyword, shape,
+            sortBy, toDirection(sortDirection),
+            cursor != null ? cursor.getKey() : null,
+            cursor != null ? cursor.getId() : null,
+            pageSize);
+        return ContentMapper.toCatalogResponseDTO(slice, page, nextCursor(slice, sortBy, sortDirection));
+    }
+
+    private String nextCursor(Slice<CatalogItemView> slice, String sortBy, String sortDirection) {
+        if (!slice.hasNext() || !slice.hasContent()) {
+            return null;
+        }
+        List<CatalogItemView> rows = slice.getContent();
+        return CatalogCursor.after(rows.get(rows.size() - 1), sortBy, sortDirection).encode();
+    }
+
+    private Sort.Direction toDirection(String sortDirection) {
+        return sortDirection.equalsIgnoreCase("asc") 
             ? Sort.Direction.ASC 
             : Sort.Direction.DESC;
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(direction, sortBy));
-        Page<Content> contentPage = contentRepository.searchByTitle(keyword, pageable);
-        return ContentMapper.toCatalogResponseDTO(contentPage, page);
     }
 
     public Content updateContent(Long contentId, Content updatedContent) {
-        logger.info("Updating content with ID: " + contentId);
+        logger.fine(() -> "Updating content with ID: " + contentId);
         
         return contentRepository.findById(contentId)
             .map(existing -> {
+                ContentAttributes before = ContentAttributes.of(existing);
                 existing.setTitle(updatedContent.getTitle());
                 existing.setDescription(updatedContent.getDescription());
                 existing.setContentType(updatedContent.getContentType());
@@ -121,7 +361,11 @@ public class ContentService {
                 existing.setUpdatedBy(updatedContent.getUpdatedBy());
                 
                 Content saved = contentRepository.save(existing);
-                logger.info("Content with ID " + contentId + " updated successfully");
+                indexAfterCommit(saved);
+                ContentAttributes after = ContentAttributes.of(saved);
+                AfterCommit.run(() -> catalogStatistics.onUpdated(before, after));
+                catalogCache.invalidate();
+                logger.info(() -> "Content with ID " + contentId + " updated successfully");
                 return saved;
             })
             .orElseThrow(() -> {
@@ -130,35 +374,221 @@ public class ContentService {
             });
     }
 
+    /**
+     * Apply a partial update with one conditional UPDATE guarded by the version the client edited.
+     * The indexed columns are read first, at that version, only when the patch changes one of them.
+     *
+     * @throws NoSuchElementException if the content does not exist
+     * @throws OptimisticLockingFailureException if the content is at another version
+     */
+    public ContentPatchResult patchContent(Long contentId, ContentPatch patch) {
+        logger.fine(() -> "Patching content with ID: " + contentId + " at version " + patch.getExpectedVersion()
+            + ", fields=" + patch.fieldNames());
+        int version = patch.getExpectedVersion();
+
+        ContentPatchStateView before = null;
+        if (patch.touchesIndexedFields()) {
+            before = contentRepository.findPatchState(contentId, version)
+                .orElseThrow(() -> versionMismatch(contentId, version));
+        }
+        LocalDateTime updatedAt = LocalDateTime.now();
+        if (contentRepository.patch(contentId, version, patch.propertyValues(), updatedAt) == 0) {
+            throw versionMismatch(contentId, version);
+        }
+
+        if (before != null) {
+            applyPatchToIndexes(contentId, before, patch);
+        }
+        catalogCache.invalidate();
+        auditEventListener.recordUpdate(Content.class, "content", contentId, patch.columnValues(),
+            (String) patch.get(ContentPatch.Field.UPDATED_BY));
+        logger.info(() -> "Content with ID " + contentId + " patched to version " + (version + 1));
+        return new ContentPatchResult(contentId, version + 1, updatedAt, patch.fieldNames());
+    }
+
+    private RuntimeException versionMismatch(Long contentId, int expectedVersion) {
+        return contentRepository.findVersionById(contentId)
+            .<RuntimeException>map(current -> new OptimisticLockingFailureException(
+                "Content " + contentId + " is at version " + current + ", not " + expectedVersion))
+            .orElseGet(() -> new NoSuchElementException("Content not found with ID: " + contentId));
+    }
+
+    private void applyPatchToIndexes(Long contentId, ContentPatchStateView before, ContentPatch patch) {
+        String title = patched(patch, ContentPatch.Field.TITLE, before.title());
+        String description = patched(patch, ContentPatch.Field.DESCRIPTION, before.description());
+        ContentAttributes oldAttributes = new ContentAttributes(before.status(), before.contentType(), before.genre(),
+            before.language(), before.rating());
+        ContentAttributes newAttributes = new ContentAttributes(
+            patched(patch, ContentPatch.Field.STATUS, before.status()),
+            patched(patch, ContentPatch.Field.CONTENT_TYPE, before.contentType()),
+            patched(patch, ContentPatch.Field.GENRE, before.genre()),
+            patched(patch, ContentPatch.Field.LANGUAGE, before.language()),
+            patched(patch, ContentPatch.Field.RATING, before.rating()));
+        AfterCommit.run(() -> searchIndex.index(contentId, title, newAttributes.genre(), description));
+        AfterCommit.run(() -> facetIndex.index(contentId, newAttributes));
+        AfterCommit.run(() -> catalogStatistics.onUpdated(oldAttributes, newAttributes));
+    }
+
+    private static String patched(ContentPatch patch, ContentPatch.Field field, String current) {
+        return patch.contains(field) ? (String) patch.get(field) : current;
+    }
+
     public void deleteContent(Long contentId) {
-        logger.info("Deleting content with ID: " + contentId);
+        logger.fine(() -> "Deleting content with ID: " + contentId);
         
-        if (!contentRepository.existsById(contentId)) {
+        Content existing = contentRepository.findById(contentId).orElseThrow(() -> {
             logger.severe("Content with ID " + contentId + " not found");
-            throw new RuntimeException("Content not found with ID: " + contentId);
-        }
+            return new RuntimeException("Content not found with ID: " + contentId);
+        });
+        ContentAttributes deleted = ContentAttributes.of(existing);
         
-        contentRepository.deleteById(contentId);
-        logger.info("Content with ID " + contentId + " deleted successfully");
+        contentRepository.delete(existing);
+        AfterCommit.run(() -> searchIndex.remove(contentId));
+        AfterCommit.run(() -> facetIndex.remove(contentId));
+        AfterCommit.run(() -> catalogStatistics.onDeleted(deleted));
+        catalogCache.invalidate();
+        logger.info(() -> "Content with ID " + contentId + " deleted successfully");
     }
 
+    private void indexAfterCommit(Content content) {
+        Long id = content.getId();
+        String title = content.getTitle();
+        String genre = content.getGenre();
+        String description = content.getDescription();
+        ContentAttributes attributes = ContentAttributes.of(content);
+        AfterCommit.run(() -> searchIndex.index(id, title, genre, description));
+        AfterCommit.run(() -> facetIndex.index(id, attributes));
+    }
+
+    @Transactional(readOnly = true)
     public ContentStats getStatistics() {
-        logger.info("Fetching content statistics");
+        if (catalogStatistics.isReady()) {
+            logger.fine("Serving content statistics from in-memory counters");
+            return new ContentStats(
+                catalogStatistics.getTotal(),
+                catalogStatistics.countByStatus("ACTIVE"),
+                catalogStatistics.getByStatus(),
+                catalogStatistics.getByContentType(),
+                catalogStatistics.getByGenre(),
+                catalogStatistics.getByLanguage()
+            );
+        }
+        logger.info("Fetching content statistics from the database, counters not seeded yet");
         return new ContentStats(
             contentRepository.count(),
             contentRepository.countByStatus("ACTIVE")
         );
     }
 
+    /**
+     * Entity tag value for anything derived from the catalog, see {@link CatalogCache#getVersionTag()}
+     */
+    public String getCatalogVersionTag() {
+        return catalogCache.getVersionTag();
+    }
+
+    /**
+     * Check the parameters of a catalog listing without running it, so an invalid request is rejected
+     * before a conditional GET could answer it with 304
+     *
+     * @throws IllegalArgumentException if a parameter is invalid
+     */
+    public void validateListing(int page, int pageSize, String sortBy, String sortDirection, String after) {
+        validatePage(page, pageSize);
+        if (!ContentRepositoryCustom.SORTABLE_PROPERTIES.contains(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sortBy: " + sortBy);
+        }
+        if (after != null) {
+            if (!CatalogCursor.isSeekable(sortBy)) {
+                throw new IllegalArgumentException("Cursor pagination is only supported when sorting by createdAt or id");
+            }
+            if (!after.isEmpty()) {
+                CatalogCursor.decode(after, sortBy, sortDirection);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #validateListing}, for searches; ranked modes do not use sortBy or cursors
+     *
+     * @throws IllegalArgumentException if a parameter is invalid
+     */
+    public void validateSearch(String mode, int page, int pageSize, String sortBy, String sortDirection,
+                               String after) {
+        SearchMode searchMode = mode != null ? SearchMode.fromParam(mode) : defaultSearchMode;
+        boolean ranked = searchMode == SearchMode.FULLTEXT || searchMode == SearchMode.BOOLEAN
+            || searchMode == SearchMode.INDEX && after == null;
+        if (ranked) {
+            validatePage(page, pageSize);
+        } else {
+            validateListing(page, pageSize, sortBy, sortDirection, after);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the page index is negative or the page size is not positive
+     */
+    public void validatePage(int page, int pageSize) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+    }
+
+    public long getCatalogLastModified() {
+        return catalogCache.getLastModified();
+    }
+
+    public CatalogCache.CacheStats getCatalogCacheStatistics() {
+        return catalogCache.getStatistics();
+    }
+
+    public ContentSearchIndex.IndexStats getSearchIndexStatistics() {
+        return searchIndex.getStatistics();
+    }
+
+    public ContentFacetIndex.FacetStats getFacetIndexStatistics() {
+        return facetIndex.getStatistics();
+    }
+
+    public TrendingTracker.TrendingStats getTrendingStatistics() {
+        return trendingTracker.getStatistics();
+    }
+
+    public long getTrendingRefreshSeconds() {
+        return trendingRefreshMillis / 1000;
+    }
+
+    /**
+     * Outcome of a partial update: the new version to send with the next edit
+     */
+    public record ContentPatchResult(long id, int versionId, LocalDateTime updatedAt, List<String> updatedFields) {
+    }
+
     public static class ContentStats {
         private Long totalContent;
         private Long activeContent;
+        private Map<String, Long> byStatus;
+        private Map<String, Long> byContentType;
+        private Map<String, Long> byGenre;
+        private Map<String, Long> byLanguage;
 
         public ContentStats(Long totalContent, Long activeContent) {
             this.totalContent = totalContent;
             this.activeContent = activeContent;
         }
 
+        public ContentStats(Long totalContent, Long activeContent, Map<String, Long> byStatus,
+                            Map<String, Long> byContentType, Map<String, Long> byGenre, Map<String, Long> byLanguage) {
+            this(totalContent, activeContent);
+            this.byStatus = byStatus;
+            this.byContentType = byContentType;
+            this.byGenre = byGenre;
+            this.byLanguage = byLanguage;
+        }
+
         public Long getTotalContent() {
             return totalContent;
         }
@@ -175,11 +605,47 @@ public class ContentService {
             this.activeContent = activeContent;
         }
 
+        public Map<String, Long> getByStatus() {
+            return byStatus;
+        }
+
+        public void setByStatus(Map<String, Long> byStatus) {
+            this.byStatus = byStatus;
+        }
+
+        public Map<String, Long> getByContentType() {
+            return byContentType;
+        }
+
+        public void setByContentType(Map<String, Long> byContentType) {
+            this.byContentType = byContentType;
+        }
+
+        public Map<String, Long> getByGenre() {
+            return byGenre;
+        }
+
+        public void setByGenre(Map<String, Long> byGenre) {
+            this.byGenre = byGenre;
+        }
+
+        public Map<String, Long> getByLanguage() {
+            return byLanguage;
+        }
+
+        public void setByLanguage(Map<String, Long> byLanguage) {
+            this.byLanguage = byLanguage;
+        }
+
         @Override
         public String toString() {
             return "ContentStats{" +
                     "totalContent=" + totalContent +
                     ", activeContent=" + activeContent +
+                    ", byStatus=" + byStatus +
+                    ", byContentType=" + byContentType +
+                    ", byGenre=" + byGenre +
+                    ", byLanguage=" + byLanguage +
                     '}';
         }
     }
@@ -0,0 +1,104 @@
+package com.streamhub.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+/**
+ * Readiness check of the database: borrows a pooled connection and validates it.
+ * The result is cached for cache-ms so frequent probes do not load the pool, and each check is bounded by
+ * timeout-ms: a probe stuck waiting for a connection reports DOWN instead of hanging the caller, and
+ * later checks reuse that probe rather than starting another one.
+ */
+@Component
+public class DatabaseHealthCheck {
+
+    private static final Logger logger = Logger.getLogger(DatabaseHealthCheck.class.getName());
+
+    private final DataSource dataSource;
+    private final long cacheNanos;
+    private final long timeoutMillis;
+    private final ExecutorService executor;
+    private volatile DatabaseStatus last;
+    private volatile long lastCheckedNanos;
+    private Future<DatabaseStatus> inFlight;
+
+    public DatabaseHealthCheck(DataSource dataSource, MetricsRegistry metricsRegistry,
+                               @Value("${streamhub.health.database.cache-ms:5000}") long cacheMillis,
+                               @Value("${streamhub.health.database.timeout-ms:2000}") long timeoutMillis) {
+        this.dataSource = dataSource;
+        this.cacheNanos = TimeUnit.MILLISECONDS.toNanos(cacheMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "database-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsRegistry.register("streamhub_database_up", "1 if the last readiness check validated a connection",
+            MetricsRegistry.Type.GAUGE, new String[0], () -> last != null && last.up() ? 1 : 0);
+    }
+
+    public DatabaseStatus check() {
+        DatabaseStatus cached = last;
+        if (cached != null && System.nanoTime() - lastCheckedNanos < cacheNanos) {
+            return cached;
+        }
+        Future<DatabaseStatus> probe;
+        synchronized (this) {
+            if (inFlight == null || inFlight.isDone()) {
+                inFlight = executor.submit(this::validate);
+            }
+            probe = inFlight;
+        }
+        DatabaseStatus status;
+        try {
+            status = probe.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            status = new DatabaseStatus(false, "No validated connection within " + timeoutMillis + " ms",
+                timeoutMillis, LocalDateTime.now());
+        } catch (ExecutionException e) {
+            status = new DatabaseStatus(false, e.getCause().getMessage(), 0, LocalDateTime.now());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cached != null ? cached : new DatabaseStatus(false, "Interrupted", 0, LocalDateTime.now());
+        }
+        if (!status.up() && (cached == null || cached.up())) {
+            logger.warning("Database readiness check failed: " + status.detail());
+        }
+        last = status;
+        lastCheckedNanos = System.nanoTime();
+        return status;
+    }
+
+    private DatabaseStatus validate() {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            int timeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis));
+            boolean valid = connection.isValid(timeoutSeconds);
+            return new DatabaseStatus(valid, valid ? "Connection validated" : "Connection failed validation",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), LocalDateTime.now());
+        } catch (Exception e) {
+            return new DatabaseStatus(false, e.getMessage(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                LocalDateTime.now());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public record DatabaseStatus(boolean up, String detail, long latencyMillis, LocalDateTime checkedAt) {
+    }
+}
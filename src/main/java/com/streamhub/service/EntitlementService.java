@@ -0,0 +1,184 @@
+package com.streamhub.service;
+
+import com.streamhub.repository.AppUserRepository;
+import com.streamhub.repository.SubscriptionRepository;
+import com.streamhub.repository.projection.EntitlementWindowView;
+import com.streamhub.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Per-user cache of active subscription windows, used to decide content access without querying
+ * subscriptions and plans on every play attempt. A window is valid from the start of its startDate
+ * through the end of its endDate. Cached entries expire at the next window boundary (or after the TTL,
+ * whichever comes first) and are dropped after commit whenever a subscription or payment of the user changes.
+ * Lookups of users that do not exist are not cached.
+ */
+@Service
+public class EntitlementService {
+
+    private static final Logger logger = Logger.getLogger(EntitlementService.class.getName());
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final AppUserRepository appUserRepository;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final Map<Long, Entitlement> entries = new ConcurrentHashMap<>();
+    // Bumped by every invalidation before the entry is removed; a load that overlapped one is returned but not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public EntitlementService(SubscriptionRepository subscriptionRepository, AppUserRepository appUserRepository,
+                              @Value("${streamhub.entitlements.cache.enabled:true}") boolean enabled,
+                              @Value("${streamhub.entitlements.cache.max-entries:100000}") int maxEntries,
+                              @Value("${streamhub.entitlements.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.appUserRepository = appUserRepository;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Entitlement of a user at the current time, loaded on a cache miss
+     */
+    public Entitlement getEntitlement(long userId) {
+        long now = System.currentTimeMillis();
+        if (enabled) {
+            Entitlement cached = entries.get(userId);
+            if (cached != null && now < cached.expiresAt()) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        Entitlement loaded = load(userId, now);
+        // Unknown users are not cached: nothing would invalidate the entry when the user is created
+        if (enabled && loaded.userExists()) {
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+            // Checked under the entry's lock, so an invalidation bumping the generation and then removing
+            // the entry cannot fall between the check and the write
+            entries.compute(userId, (id, current) -> generation.get() == loadGeneration ? loaded : current);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop the cached entitlement of a user; called after a subscription or payment change commits
+     */
+    public void invalidate(long userId) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        entries.remove(userId);
+    }
+
+    /**
+     * Drop the cached entitlement of a user once the current transaction commits, or immediately outside one
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (userId != null) {
+            long id = userId;
+            AfterCommit.run(() -> invalidate(id));
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+        entries.clear();
+    }
+
+    public EntitlementStats getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+        return new EntitlementStats(enabled, entries.size(), maxEntries, hitCount, missCount, invalidations.sum(),
+            lookups == 0 ? 0 : (double) hitCount / lookups);
+    }
+
+    private Entitlement load(long userId, long now) {
+        if (!appUserRepository.existsById(userId)) {
+            return new Entitlement(userId, false, new Window[0], now + ttlMillis);
+        }
+
+        LocalDate today = LocalDate.now(zone);
+        List<EntitlementWindowView> rows = subscriptionRepository.findEntitlementWindows(userId, today);
+        Window[] windows = new Window[rows.size()];
+        long expiresAt = now + ttlMillis;
+        for (int i = 0; i < windows.length; i++) {
+            EntitlementWindowView row = rows.get(i);
+            long from = row.startDate().atStartOfDay(zone).toInstant().toEpochMilli();
+            long until = row.endDate().plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            windows[i] = new Window(row.subscriptionId(), row.planId(), row.planName(), row.planFeatures(), from, until);
+            // Reload exactly when a window opens or closes
+            if (from > now) {
+                expiresAt = Math.min(expiresAt, from);
+            }
+            expiresAt = Math.min(expiresAt, until);
+        }
+        logger.fine(() -> "Loaded entitlement for user " + userId + ": " + windows.length + " active subscriptions");
+        return new Entitlement(userId, true, windows, expiresAt);
+    }
+
+    /**
+     * Make room by dropping expired entries, then arbitrary ones if the cache is still full
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now >= entry.expiresAt());
+        Iterator<Long> keys = entries.keySet().iterator();
+        int excess = entries.size() - maxEntries * 9 / 10;
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * Subscription window bounds are epoch milliseconds, end exclusive
+     */
+    public record Window(long subscriptionId, long planId, String planName, String planFeatures,
+                         long validFrom, long validUntil) {
+
+        public boolean covers(long epochMillis) {
+            return epochMillis >= validFrom && epochMillis < validUntil;
+        }
+    }
+
+    public record Entitlement(long userId, boolean userExists, Window[] windows, long expiresAt) {
+
+        /**
+         * The subscription window granting access at the given time, or null
+         */
+        public Window activeWindow(long epochMillis) {
+            for (Window window : windows) {
+                if (window.covers(epochMillis)) {
+                    return window;
+                }
+            }
+            return null;
+        }
+    }
+
+    public record EntitlementStats(boolean enabled, int size, int maxEntries, long hits, long misses,
+                                   long invalidations, double hitRatio) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.streamhub.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes Hibernate's session factory statistics (enabled by hibernate.generate_statistics) as counters:
+ * statements, entity and collection operations, queries, and second-level and query cache traffic.
+ * The values are read from Hibernate when scraped.
+ */
+@Component
+public class HibernateMetrics {
+
+    private static final String[] NONE = {};
+    private static final String[] OPERATION = {"operation"};
+    private static final String[] RESULT = {"result"};
+
+    private final Statistics statistics;
+
+    public HibernateMetrics(EntityManagerFactory entityManagerFactory, MetricsRegistry metricsRegistry) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+
+        counter(metricsRegistry, "hibernate_statements_prepared_total", "JDBC statements prepared", NONE,
+            Statistics::getPrepareStatementCount);
+        counter(metricsRegistry, "hibernate_sessions_opened_total", "Sessions opened", NONE,
+            Statistics::getSessionOpenCount);
+        counter(metricsRegistry, "hibernate_connections_obtained_total", "JDBC connections obtained by sessions", NONE,
+            Statistics::getConnectCount);
+        counter(metricsRegistry, "hibernate_transactions_total", "Transactions completed", NONE,
+            Statistics::getTransactionCount);
+        counter(metricsRegistry, "hibernate_flushes_total", "Session flushes", NONE, Statistics::getFlushCount);
+        counter(metricsRegistry, "hibernate_optimistic_failures_total", "Optimistic lock failures", NONE,
+            Statistics::getOptimisticFailureCount);
+
+        counter(metricsRegistry, "hibernate_entity_operations_total", "Entity loads, fetches and writes", OPERATION,
+            Statistics::getEntityLoadCount, "load");
+        counter(metricsRegistry, "hibernate_entity_operations_total", "Entity loads, fetches and writes", OPERATION,
+            Statistics::getEntityFetchCount, "fetch");
+        counter(metricsRegistry, "hibernate_entity_operations_total", "Entity loads, fetches and writes", OPERATION,
+            Statistics::getEntityInsertCount, "insert");
+        counter(metricsRegistry, "hibernate_entity_operations_total", "Entity loads, fetches and writes", OPERATION,
+            Statistics::getEntityUpdateCount, "update");
+        counter(metricsRegistry, "hibernate_entity_operations_total", "Entity loads, fetches and writes", OPERATION,
+            Statistics::getEntityDeleteCount, "delete");
+        counter(metricsRegistry, "hibernate_collection_operations_total", "Collection loads and fetches", OPERATION,
+            Statistics::getCollectionLoadCount, "load");
+        counter(metricsRegistry, "hibernate_collection_operations_total", "Collection loads and fetches", OPERATION,
+            Statistics::getCollectionFetchCount, "fetch");
+
+        counter(metricsRegistry, "hibernate_queries_executed_total", "HQL and criteria queries executed", NONE,
+            Statistics::getQueryExecutionCount);
+        metricsRegistry.register("hibernate_query_execution_max_seconds", "Slowest query execution so far",
+            MetricsRegistry.Type.GAUGE, NONE, () -> statistics.getQueryExecutionMaxTime() / 1000.0);
+
+        counter(metricsRegistry, "hibernate_second_level_cache_requests_total", "Second-level cache lookups", RESULT,
+            Statistics::getSecondLevelCacheHitCount, "hit");
+        counter(metricsRegistry, "hibernate_second_level_cache_requests_total", "Second-level cache lookups", RESULT,
+            Statistics::getSecondLevelCacheMissCount, "miss");
+        counter(metricsRegistry, "hibernate_second_level_cache_puts_total", "Second-level cache puts", NONE,
+            Statistics::getSecondLevelCachePutCount);
+        counter(metricsRegistry, "hibernate_query_cache_requests_total", "Query cache lookups", RESULT,
+            Statistics::getQueryCacheHitCount, "hit");
+        counter(metricsRegistry, "hibernate_query_cache_requests_total", "Query cache lookups", RESULT,
+            Statistics::getQueryCacheMissCount, "miss");
+    }
+
+    private void counter(MetricsRegistry registry, String name, String help, String[] labels,
+                         ToLongFunction<Statistics> value, String... labelValues) {
+        registry.register(name, help, MetricsRegistry.Type.COUNTER, labels, () -> value.applyAsLong(statistics),
+            labelValues);
+    }
+}
@@ -0,0 +1,133 @@
+package com.streamhub.service;
+
+import com.streamhub.util.Histogram;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JVM metrics: memory per pool, GC counts and pause times, threads and classes.
+ * Allocation and promotion are derived from GC notifications, as the JVM has no process-wide allocation counter:
+ * the young generation's growth since the previous collection is what was allocated, and the old generation's
+ * growth during a young collection is what was promoted.
+ */
+@Component
+public class JvmMetrics {
+
+    private static final String[] NONE = {};
+    private static final String[] GC = {"gc"};
+    private static final String[] POOL = {"area", "pool"};
+
+    private final MetricsRegistry metricsRegistry;
+    private final LongAdder allocatedBytes;
+    private final LongAdder promotedBytes;
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener gcListener = (notification, handback) -> {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            onCollection(GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData()));
+        }
+    };
+    private long youngUsageAfterLastGc;
+
+    public JvmMetrics(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        this.allocatedBytes = metricsRegistry.counter("jvm_gc_memory_allocated_bytes_total",
+            "Bytes allocated in the young generation, measured at each collection", NONE);
+        this.promotedBytes = metricsRegistry.counter("jvm_gc_memory_promoted_bytes_total",
+            "Bytes promoted to the old generation by young collections", NONE);
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            String area = pool.getType() == MemoryType.HEAP ? "heap" : "nonheap";
+            metricsRegistry.register("jvm_memory_used_bytes", "Memory used per pool", MetricsRegistry.Type.GAUGE,
+                POOL, () -> pool.getUsage().getUsed(), area, pool.getName());
+            metricsRegistry.register("jvm_memory_committed_bytes", "Memory committed per pool",
+                MetricsRegistry.Type.GAUGE, POOL, () -> pool.getUsage().getCommitted(), area, pool.getName());
+            metricsRegistry.register("jvm_memory_max_bytes", "Maximum memory per pool, -1 if undefined",
+                MetricsRegistry.Type.GAUGE, POOL, () -> pool.getUsage().getMax(), area, pool.getName());
+        }
+
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            metricsRegistry.register("jvm_gc_collections_total", "Collections per collector",
+                MetricsRegistry.Type.COUNTER, GC, collector::getCollectionCount, collector.getName());
+            metricsRegistry.register("jvm_gc_collection_seconds_total", "Accumulated collection time per collector",
+                MetricsRegistry.Type.COUNTER, GC, () -> collector.getCollectionTime() / 1000.0, collector.getName());
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(gcListener, null, null);
+                emitters.add(emitter);
+            }
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+        metricsRegistry.register("jvm_threads_live", "Live threads", MetricsRegistry.Type.GAUGE, NONE,
+            threads::getThreadCount);
+        metricsRegistry.register("jvm_threads_daemon", "Live daemon threads", MetricsRegistry.Type.GAUGE, NONE,
+            threads::getDaemonThreadCount);
+        metricsRegistry.register("jvm_classes_loaded", "Classes currently loaded", MetricsRegistry.Type.GAUGE, NONE,
+            classes::getLoadedClassCount);
+        metricsRegistry.register("process_uptime_seconds", "JVM uptime", MetricsRegistry.Type.GAUGE, NONE,
+            () -> ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(gcListener);
+            } catch (ListenerNotFoundException e) {
+                // Already removed
+            }
+        }
+    }
+
+    /**
+     * Called on the JMX notification thread, one collection at a time
+     */
+    private synchronized void onCollection(GarbageCollectionNotificationInfo info) {
+        Histogram pauses = metricsRegistry.histogram("jvm_gc_pause_seconds", "Collection durations by collector and action",
+            new String[]{"gc", "action"}, info.getGcName(), info.getGcAction());
+        pauses.record(info.getGcInfo().getDuration() / 1000.0);
+
+        Map<String, MemoryUsage> before = info.getGcInfo().getMemoryUsageBeforeGc();
+        Map<String, MemoryUsage> after = info.getGcInfo().getMemoryUsageAfterGc();
+        for (Map.Entry<String, MemoryUsage> pool : before.entrySet()) {
+            String name = pool.getKey();
+            if (isYoung(name)) {
+                long used = pool.getValue().getUsed();
+                if (used > youngUsageAfterLastGc) {
+                    allocatedBytes.add(used - youngUsageAfterLastGc);
+                }
+                youngUsageAfterLastGc = after.get(name).getUsed();
+            } else if (isOld(name) && info.getGcAction().contains("minor")) {
+                long growth = after.get(name).getUsed() - pool.getValue().getUsed();
+                if (growth > 0) {
+                    promotedBytes.add(growth);
+                }
+            }
+        }
+    }
+
+    private static boolean isYoung(String pool) {
+        return pool.endsWith("Eden Space");
+    }
+
+    private static boolean isOld(String pool) {
+        return pool.endsWith("Old Gen") || pool.endsWith("Tenured Gen");
+    }
+}
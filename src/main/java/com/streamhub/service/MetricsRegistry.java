@@ -0,0 +1,160 @@
+package com.streamhub.service;
+
+import com.streamhub.util.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process metrics: counters, gauges and latency histograms grouped into named families with fixed
+ * label names, rendered in the Prometheus text exposition format by {@link #scrape()}.
+ * Gauges and function counters are read when scraped, so they cost nothing between scrapes.
+ */
+@Component
+public class MetricsRegistry {
+
+    public enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        HISTOGRAM("histogram");
+
+        private final String exposition;
+
+        Type(String exposition) {
+            this.exposition = exposition;
+        }
+    }
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public Histogram histogram(String name, String help, String[] labelNames, String... labelValues) {
+        return histogram(name, help, Histogram.LATENCY_SECONDS, labelNames, labelValues);
+    }
+
+    public Histogram histogram(String name, String help, double[] bounds, String[] labelNames, String... labelValues) {
+        return (Histogram) family(name, help, Type.HISTOGRAM, labelNames)
+            .child(labelValues, () -> new Histogram(bounds));
+    }
+
+    public LongAdder counter(String name, String help, String[] labelNames, String... labelValues) {
+        return (LongAdder) family(name, help, Type.COUNTER, labelNames).child(labelValues, LongAdder::new);
+    }
+
+    /**
+     * Register a value read at scrape time: a gauge, or a counter kept elsewhere (type COUNTER)
+     */
+    public void register(String name, String help, Type type, String[] labelNames, DoubleSupplier value,
+                         String... labelValues) {
+        if (type == Type.HISTOGRAM) {
+            throw new IllegalArgumentException("Histograms are recorded, not read from a supplier");
+        }
+        family(name, help, type, labelNames).child(labelValues, () -> value);
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(16384);
+        for (Family family : families.values()) {
+            family.write(out);
+        }
+        return out.toString();
+    }
+
+    private Family family(String name, String help, Type type, String[] labelNames) {
+        Family family = families.computeIfAbsent(name, key -> new Family(name, help, type, labelNames));
+        if (family.type != type || !Arrays.equals(family.labelNames, labelNames)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered with another type or labels");
+        }
+        return family;
+    }
+
+    private static final class Family {
+
+        private final String name;
+        private final String help;
+        private final Type type;
+        private final String[] labelNames;
+        private final Map<List<String>, Object> children = new ConcurrentHashMap<>();
+
+        Family(String name, String help, Type type, String[] labelNames) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labelNames = labelNames.clone();
+        }
+
+        Object child(String[] labelValues, Supplier<Object> factory) {
+            if (labelValues.length != labelNames.length) {
+                throw new IllegalArgumentException("Metric " + name + " expects labels " + Arrays.toString(labelNames));
+            }
+            return children.computeIfAbsent(List.of(labelValues), key -> factory.get());
+        }
+
+        void write(StringBuilder out) {
+            out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n"))
+                .append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type.exposition).append('\n');
+            for (Map.Entry<List<String>, Object> child : children.entrySet()) {
+                List<String> values = child.getKey();
+                Object metric = child.getValue();
+                if (metric instanceof Histogram histogram) {
+                    writeHistogram(out, values, histogram);
+                } else if (metric instanceof LongAdder counter) {
+                    sample(out, name, values, null, counter.sum());
+                } else {
+                    sample(out, name, values, null, ((DoubleSupplier) metric).getAsDouble());
+                }
+            }
+        }
+
+        private void writeHistogram(StringBuilder out, List<String> values, Histogram histogram) {
+            double[] bounds = histogram.getBounds();
+            Histogram.Snapshot snapshot = histogram.snapshot();
+            long[] counts = snapshot.cumulativeCounts();
+            for (int i = 0; i < bounds.length; i++) {
+                sample(out, name + "_bucket", values, format(bounds[i]), counts[i]);
+            }
+            sample(out, name + "_bucket", values, "+Inf", counts[bounds.length]);
+            sample(out, name + "_sum", values, null, snapshot.sum());
+            sample(out, name + "_count", values, null, snapshot.count());
+        }
+
+        private void sample(StringBuilder out, String sampleName, List<String> values, String le, double value) {
+            out.append(sampleName);
+            if (!values.isEmpty() || le != null) {
+                out.append('{');
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        out.append(',');
+                    }
+                    out.append(labelNames[i]).append("=\"").append(escape(values.get(i))).append('"');
+                }
+                if (le != null) {
+                    out.append(values.isEmpty() ? "" : ",").append("le=\"").append(le).append('"');
+                }
+                out.append('}');
+            }
+            out.append(' ').append(format(value)).append('\n');
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+
+        private static String format(double value) {
+            if (Double.isNaN(value)) {
+                return "NaN";
+            }
+            if (Double.isInfinite(value)) {
+                return value > 0 ? "+Inf" : "-Inf";
+            }
+            return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+        }
+    }
+}
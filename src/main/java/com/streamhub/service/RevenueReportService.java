@@ -0,0 +1,235 @@
+package com.streamhub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.streamhub.dto.RevenueReportDTO;
+import com.streamhub.entity.RevenueReport;
+import com.streamhub.entity.SubscriptionPlan;
+import com.streamhub.repository.RevenueReportRepository;
+import com.streamhub.repository.RevenueRollupRepository;
+import com.streamhub.repository.RevenueRollupRepository.RollupTotal;
+import com.streamhub.repository.SubscriptionPlanRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Revenue reports composed from the daily rollups, so a period of any length costs one grouped
+ * query over its rollup rows and one read of its payer sketches instead of a scan of payment_transaction.
+ */
+@Service
+public class RevenueReportService {
+
+    private static final Logger logger = Logger.getLogger(RevenueReportService.class.getName());
+    private static final String SUCCESS = "SUCCESS";
+    private static final String REFUNDED = "REFUNDED";
+
+    private final RevenueRollupRepository rollupRepository;
+    private final RevenueReportRepository reportRepository;
+    private final SubscriptionPlanRepository planRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter metricsWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup;
+    private final String reportingCurrency;
+
+    public RevenueReportService(RevenueRollupRepository rollupRepository, RevenueReportRepository reportRepository,
+                                SubscriptionPlanRepository planRepository, ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${streamhub.revenue.rollup.backfill-on-startup:true}") boolean backfillOnStartup,
+                                @Value("${streamhub.revenue.report.currency:USD}") String reportingCurrency) {
+        this.rollupRepository = rollupRepository;
+        this.reportRepository = reportRepository;
+        this.planRepository = planRepository;
+        this.objectMapper = objectMapper;
+        this.metricsWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+        this.reportingCurrency = reportingCurrency;
+    }
+
+    /**
+     * Build the rollups from payment history when the table is still empty, e.g. right after it was created.
+     * Runs on a background thread so startup does not wait for it; reports of days not yet rebuilt are incomplete
+     * until it finishes. If it is interrupted, POST /v1/reports/revenue/rollups/rebuild finishes the job.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup || !rollupRepository.isEmpty()) {
+            return;
+        }
+        LocalDate[] range = rollupRepository.paymentDayRange();
+        if (range == null) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuildRollups(range[0], range[1]);
+            } catch (RuntimeException e) {
+                logger.severe("Revenue rollup backfill failed: " + e.getMessage());
+            }
+        }, "revenue-rollup-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Recompute the rollups of a period from payment_transaction, one day per transaction,
+     * so no statement covers more than a day of payments and locks are held for one day at a time
+     *
+     * @return number of rollup rows written
+     */
+    public int rebuildRollups(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        long started = System.nanoTime();
+        int rows = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate rebuilt = day;
+            Integer dayRows = transactionTemplate.execute(status -> rollupRepository.rebuild(rebuilt, rebuilt));
+            rows += dayRows != null ? dayRows : 0;
+        }
+        logger.info("Rebuilt revenue rollups " + from + " to " + to + ": " + rows + " rows in "
+            + (System.nanoTime() - started) / 1_000_000 + " ms");
+        return rows;
+    }
+
+    /**
+     * Compose and store the report of a period, both ends inclusive.
+     * totalRevenue only sums payments in the reporting currency; every currency is broken down in the metrics.
+     */
+    @Transactional
+    public RevenueReportDTO generate(LocalDate start, LocalDate end, String createdBy) {
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("start must not be after end");
+        }
+        long started = System.nanoTime();
+        List<RollupTotal> totals = rollupRepository.sumByBucket(start, end);
+        long activeUsers = rollupRepository.mergePayers(start, end).estimate();
+
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        Map<String, Map<String, Object>> byCurrency = new TreeMap<>();
+        Map<Long, Map<String, Object>> byPlan = new TreeMap<>();
+        Map<String, Map<String, Object>> byStatus = new TreeMap<>();
+        Set<Long> planIds = new HashSet<>();
+        for (RollupTotal total : totals) {
+            if (total.transactionCount() == 0) {
+                continue;
+            }
+            add(byStatus.computeIfAbsent(total.status(), key -> new LinkedHashMap<>()), "transactions", "amount", total);
+            if (SUCCESS.equals(total.status())) {
+                if (reportingCurrency.equals(total.currency())) {
+                    totalRevenue = totalRevenue.add(total.totalAmount());
+                }
+                add(byCurrency.computeIfAbsent(total.currency(), key -> new LinkedHashMap<>()), "transactions", "revenue", total);
+                add(byPlan.computeIfAbsent(total.planId(), key -> new LinkedHashMap<>()), "transactions", "revenue", total);
+                planIds.add(total.planId());
+            } else if (REFUNDED.equals(total.status())) {
+                add(byCurrency.computeIfAbsent(total.currency(), key -> new LinkedHashMap<>()), "refunds", "refunded", total);
+            }
+        }
+        Map<Long, String> planNames = new HashMap<>();
+        for (SubscriptionPlan plan : planRepository.findAllById(planIds)) {
+            planNames.put(plan.getId(), plan.getPlanName());
+        }
+        Map<String, Map<String, Object>> plans = new LinkedHashMap<>();
+        byPlan.forEach((planId, values) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", planNames.get(planId));
+            entry.putAll(values);
+            plans.put(String.valueOf(planId), entry);
+        });
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("days", ChronoUnit.DAYS.between(start, end) + 1);
+        metrics.put("totalRevenueCurrency", reportingCurrency);
+        metrics.put("currencies", byCurrency);
+        metrics.put("plans", plans);
+        metrics.put("statuses", byStatus);
+
+        RevenueReport report = RevenueReport.builder()
+            .reportPeriodStart(start)
+            .reportPeriodEnd(end)
+            .totalRevenue(totalRevenue)
+            .activeUsersCount((int) Math.min(activeUsers, Integer.MAX_VALUE))
+            .metrics(toJson(metrics))
+            .createdBy(createdBy)
+            .build();
+        RevenueReport saved = reportRepository.save(report);
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Generated revenue report " + start + " to " + end + " from " + totals.size()
+            + " rollup buckets in " + elapsedMs + " ms");
+        RevenueReportDTO dto = toDto(saved);
+        dto.setGenerationMillis(elapsedMs);
+        return dto;
+    }
+
+    /**
+     * Stored reports, latest period first
+     */
+    @Transactional(readOnly = true)
+    public List<RevenueReportDTO> getReports(int page, int pageSize) {
+        List<RevenueReportDTO> reports = new ArrayList<>();
+        reportRepository.findAll(PageRequest.of(page, pageSize,
+                Sort.by(Sort.Direction.DESC, "reportPeriodStart").and(Sort.by(Sort.Direction.DESC, "id"))))
+            .forEach(report -> reports.add(toDto(report)));
+        return reports;
+    }
+
+    private static void add(Map<String, Object> values, String countKey, String amountKey, RollupTotal total) {
+        values.merge(countKey, total.transactionCount(), (a, b) -> (Long) a + (Long) b);
+        values.merge(amountKey, total.totalAmount(), (a, b) -> ((BigDecimal) a).add((BigDecimal) b));
+    }
+
+    private String toJson(Map<String, Object> metrics) {
+        try {
+            return metricsWriter.writeValueAsString(metrics);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private RevenueReportDTO toDto(RevenueReport report) {
+        RevenueReportDTO dto = RevenueReportDTO.builder()
+            .id(report.getId())
+            .reportPeriodStart(report.getReportPeriodStart())
+            .reportPeriodEnd(report.getReportPeriodEnd())
+            .totalRevenue(report.getTotalRevenue())
+            .activeUsersCount(report.getActiveUsersCount())
+            .generatedDate(report.getGeneratedDate())
+            .createdBy(report.getCreatedBy())
+            .build();
+        if (report.getMetrics() != null) {
+            try {
+                dto.setMetrics(objectMapper.readTree(report.getMetrics()));
+            } catch (JsonProcessingException e) {
+                logger.warning("Revenue report " + report.getId() + " has unreadable metrics: " + e.getMessage());
+            }
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,92 @@
+package com.streamhub.service;
+
+import com.streamhub.entity.PaymentTransaction;
+import com.streamhub.repository.RevenueRollupRepository;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Keeps the daily revenue rollups in step with payment_transaction, called by
+ * {@link com.streamhub.entity.listener.PaymentTransactionListener} around every JPA write of a payment.
+ * Deltas are written through the transaction's own connection right after Hibernate's statement,
+ * so a payment and its rollup change commit or roll back together. Every delta of a payment is booked
+ * under the plan recorded on the payment when it was created, so a later plan change of the subscription
+ * cannot move its reversal into another plan's bucket.
+ */
+@Service
+public class RevenueRollupService {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String DEFAULT_CURRENCY = "USD";
+
+    private final RevenueRollupRepository rollupRepository;
+
+    public RevenueRollupService(RevenueRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Record the subscription's current plan on a payment about to be inserted
+     */
+    public void assignPlan(PaymentTransaction payment) {
+        if (payment.getPlanId() == null && payment.getSubscriptionId() != null) {
+            payment.setPlanId(rollupRepository.subscriptionPlan(payment.getSubscriptionId()));
+        }
+    }
+
+    public void onInsert(PaymentTransaction payment) {
+        LocalDate day = day(payment);
+        apply(payment, day, payment.getTransactionStatus(), 1, payment.getAmount());
+        if (SUCCESS.equals(payment.getTransactionStatus())) {
+            rollupRepository.addPayer(day, payment.getUserId());
+        }
+        remember(payment);
+    }
+
+    public void onUpdate(PaymentTransaction payment) {
+        String before = payment.getRolledUpStatus();
+        String after = payment.getTransactionStatus();
+        if (Objects.equals(before, after) && amountsEqual(payment.getRolledUpAmount(), payment.getAmount())) {
+            return;
+        }
+        LocalDate day = day(payment);
+        if (before != null) {
+            apply(payment, day, before, -1, payment.getRolledUpAmount().negate());
+        }
+        apply(payment, day, after, 1, payment.getAmount());
+        // A refund leaves the user in the day's payer sketch; sketches only grow
+        if (SUCCESS.equals(after) && !SUCCESS.equals(before)) {
+            rollupRepository.addPayer(day, payment.getUserId());
+        }
+        remember(payment);
+    }
+
+    public void onDelete(PaymentTransaction payment) {
+        String status = payment.getRolledUpStatus() != null ? payment.getRolledUpStatus() : payment.getTransactionStatus();
+        BigDecimal amount = payment.getRolledUpAmount() != null ? payment.getRolledUpAmount() : payment.getAmount();
+        apply(payment, day(payment), status, -1, amount.negate());
+    }
+
+    private void apply(PaymentTransaction payment, LocalDate day, String status, int count, BigDecimal amount) {
+        String currency = payment.getCurrency() != null ? payment.getCurrency() : DEFAULT_CURRENCY;
+        rollupRepository.applyDelta(day, currency, payment.getSubscriptionId(), payment.getPlanId(), status, count, amount);
+    }
+
+    private LocalDate day(PaymentTransaction payment) {
+        return payment.getCreatedAt() != null
+            ? payment.getCreatedAt().toLocalDate()
+            : rollupRepository.paymentDay(payment.getId());
+    }
+
+    private static void remember(PaymentTransaction payment) {
+        payment.setRolledUpStatus(payment.getTransactionStatus());
+        payment.setRolledUpAmount(payment.getAmount());
+    }
+
+    private static boolean amountsEqual(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
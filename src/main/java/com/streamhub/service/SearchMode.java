@@ -0,0 +1,71 @@
+package com.streamhub.service;
+
+import java.util.Locale;
+
+/**
+ * Strategies for answering /v1/search
+ */
+public enum SearchMode {
+    /** In-memory inverted index ranked by relevance */
+    INDEX("index"),
+    /** Substring match on the title with LIKE, honours sortBy */
+    LIKE("like"),
+    /** MySQL FULLTEXT index ft_content_search in natural language mode, ranked by relevance */
+    FULLTEXT("fulltext"),
+    /** MySQL FULLTEXT index ft_content_search in boolean mode (+term -term term* "phrase") */
+    BOOLEAN("boolean");
+
+    private final String param;
+
+    SearchMode(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static SearchMode fromParam(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        for (SearchMode mode : values()) {
+            if (mode.param.equals(normalized)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown search mode: " + value);
+    }
+
+    /**
+     * Reject boolean-mode input MySQL would fail to parse: unbalanced quotes or parentheses,
+     * and operators with nothing to apply to.
+     */
+    public static void validateBooleanQuery(String query) {
+        boolean inPhrase = false;
+        int depth = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                inPhrase = !inPhrase;
+            } else if (inPhrase) {
+                continue;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                if (--depth < 0) {
+                    throw new IllegalArgumentException("Unbalanced parentheses in boolean query");
+                }
+            } else if ("+-~<>@".indexOf(c) >= 0) {
+                char next = i + 1 < query.length() ? query.charAt(i + 1) : ' ';
+                if (Character.isWhitespace(next) || next == ')' || "+-~<>@*".indexOf(next) >= 0) {
+                    throw new IllegalArgumentException("Operator '" + c + "' in boolean query has no term");
+                }
+            }
+        }
+        if (inPhrase) {
+            throw new IllegalArgumentException("Unbalanced quote in boolean query");
+        }
+        if (depth != 0) {
+            throw new IllegalArgumentException("Unbalanced parentheses in boolean query");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.streamhub.service;
+
+import com.streamhub.config.InProcessRegionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of the Hibernate second-level and query caches: Hibernate's per-region hit, miss and put
+ * counters joined with the size and bound of each in-process region.
+ */
+@Service
+public class SecondLevelCacheService {
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    public SecondLevelCacheStats getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        RegionFactory regionFactory = sessionFactory.getCache().getRegionFactory();
+        List<RegionStats> regions = new ArrayList<>();
+        if (regionFactory instanceof InProcessRegionFactory inProcess) {
+            for (InProcessRegionFactory.RegionUsage usage : inProcess.getRegionUsage()) {
+                CacheRegionStatistics region = regionStatistics(statistics, usage.regionName());
+                long hits = region != null ? region.getHitCount() : 0;
+                long misses = region != null ? region.getMissCount() : 0;
+                regions.add(new RegionStats(usage.regionName(), usage.entries(), usage.maxEntries(), usage.ttlSeconds(),
+                    hits, misses, region != null ? region.getPutCount() : 0, usage.evictions(), ratio(hits, misses)));
+            }
+        }
+        return new SecondLevelCacheStats(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled(),
+            sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled(), statistics.isStatisticsEnabled(),
+            statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(),
+            statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+            statistics.getUpdateTimestampsCachePutCount(), regions);
+    }
+
+    private static CacheRegionStatistics regionStatistics(Statistics statistics, String regionName) {
+        try {
+            return statistics.getCacheRegionStatistics(regionName);
+        } catch (IllegalArgumentException e) {
+            // The update timestamps region has no region statistics of its own
+            return null;
+        }
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public record RegionStats(String region, int entries, int maxEntries, long ttlSeconds, long hits, long misses,
+                              long puts, long evictions, double hitRatio) {
+    }
+
+    public record SecondLevelCacheStats(boolean secondLevelCacheEnabled, boolean queryCacheEnabled,
+                                        boolean statisticsEnabled, long entityHits, long entityMisses,
+                                        long queryHits, long queryMisses, long tableInvalidations,
+                                        List<RegionStats> regions) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.streamhub.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC activity of one HTTP request: statements executed, rows read and time spent in the driver, plus
+ * N+1 suspects, i.e. the same SELECT executed repeatedly with different parameters.
+ * Bound to the request thread between {@link #begin} and {@link #end}; statements run on other threads
+ * (async writers, streamed exports) are not attributed to the request.
+ */
+public final class SqlActivity {
+
+    /**
+     * Request attribute holding the finished activity, for filters that run after the tracking filter
+     */
+    public static final String REQUEST_ATTRIBUTE = SqlActivity.class.getName();
+
+    private static final ThreadLocal<SqlActivity> CURRENT = new ThreadLocal<>();
+
+    private final int repeatThreshold;
+    private final Map<String, Repeat> selects = new HashMap<>();
+    private long statements;
+    private long rows;
+    private long nanos;
+    private String repositoryMethod;
+
+    private SqlActivity(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public static SqlActivity begin(int repeatThreshold) {
+        SqlActivity activity = new SqlActivity(repeatThreshold);
+        CURRENT.set(activity);
+        return activity;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Activity of the request on this thread, or null outside a tracked request
+     */
+    public static SqlActivity current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Remember the repository method running on this thread, reported as the origin of N+1 suspects
+     */
+    public static void enterRepository(String repositoryMethod) {
+        SqlActivity activity = CURRENT.get();
+        if (activity != null) {
+            activity.repositoryMethod = repositoryMethod;
+        }
+    }
+
+    public void statementExecuted(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (sql == null || !isSelect(sql)) {
+            return;
+        }
+        Repeat repeat = selects.computeIfAbsent(sql, key -> new Repeat(repositoryMethod));
+        repeat.count++;
+        if (repeat.count == repeatThreshold) {
+            // The stack is only captured once per suspect, when the threshold is reached
+            repeat.callSite = callSite();
+        }
+    }
+
+    public void rowRead() {
+        rows++;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public List<NPlusOneSuspect> getSuspects() {
+        List<NPlusOneSuspect> suspects = new ArrayList<>();
+        selects.forEach((sql, repeat) -> {
+            if (repeat.count >= repeatThreshold) {
+                suspects.add(new NPlusOneSuspect(sql, repeat.count, repeat.repositoryMethod, repeat.callSite));
+            }
+        });
+        return suspects;
+    }
+
+    private static boolean isSelect(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        return sql.regionMatches(true, start, "select", 0, 6) || sql.regionMatches(true, start, "with", 0, 4);
+    }
+
+    /**
+     * First application frame outside the JDBC tracking code, e.g. the service method that triggered a lazy load
+     */
+    private static String callSite() {
+        for (StackTraceElement frame : Thread.currentThread().getStackTrace()) {
+            String type = frame.getClassName();
+            if (type.startsWith("com.streamhub.") && !type.startsWith("com.streamhub.config.")
+                    && !type.equals(SqlActivity.class.getName()) && !type.contains("$$")) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "unknown";
+    }
+
+    /**
+     * Executions of one SELECT; the repository method is the one running when it was first seen
+     */
+    private static final class Repeat {
+
+        private final String repositoryMethod;
+        private int count;
+        private String callSite;
+
+        Repeat(String repositoryMethod) {
+            this.repositoryMethod = repositoryMethod;
+        }
+    }
+
+    public record NPlusOneSuspect(String sql, int executions, String repositoryMethod, String callSite) {
+
+        public String summary() {
+            String statement = sql.replaceAll("\\s+", " ").trim();
+            return executions + "x [" + (statement.length() > 160 ? statement.substring(0, 160) + "..." : statement)
+                + "] from " + (repositoryMethod != null ? repositoryMethod : "no repository call") + " at " + callSite;
+        }
+    }
+}
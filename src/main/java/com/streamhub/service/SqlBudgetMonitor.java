@@ -0,0 +1,176 @@
+package com.streamhub.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Per-request SQL budgets and N+1 reporting. Every tracked request's statement count, rows and driver time
+ * go to histograms per route; requests with N+1 suspects or over their statement budget are logged and kept
+ * in a short history for /v1/stats/sql. Budgets are configured per route as "METHOD /pattern=max", with an
+ * optional default for all other routes; with enforce=true an exceeded budget fails the request, which is
+ * meant for integration tests. The tracking filter checks the budget with {@link #violation} just before the
+ * response is committed, so the failure reaches real HTTP clients as a 500 rather than after a 200 went out.
+ */
+@Component
+public class SqlBudgetMonitor {
+
+    private static final Logger logger = Logger.getLogger(SqlBudgetMonitor.class.getName());
+
+    private static final String[] ROUTE = {"method", "uri"};
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100, 200, 500};
+    private static final double[] ROW_BUCKETS = {1, 10, 100, 1000, 10000, 100000, 1000000};
+    private static final int HISTORY = 100;
+
+    private final MetricsRegistry metricsRegistry;
+    private final boolean enabled;
+    private final int repeatThreshold;
+    private final int defaultMaxStatements;
+    private final boolean enforce;
+    private final Map<String, Integer> budgets;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder requestsWithSuspects = new LongAdder();
+    private final LongAdder budgetViolations = new LongAdder();
+    private final Deque<Finding> recent = new ArrayDeque<>();
+
+    public SqlBudgetMonitor(MetricsRegistry metricsRegistry,
+                            @Value("${streamhub.sql-budget.enabled:true}") boolean enabled,
+                            @Value("${streamhub.sql-budget.n-plus-one-threshold:5}") int repeatThreshold,
+                            @Value("${streamhub.sql-budget.default-max-statements:0}") int defaultMaxStatements,
+                            @Value("${streamhub.sql-budget.routes:}") List<String> routeBudgets,
+                            @Value("${streamhub.sql-budget.enforce:false}") boolean enforce) {
+        if (repeatThreshold < 2) {
+            throw new IllegalArgumentException("streamhub.sql-budget.n-plus-one-threshold must be at least 2");
+        }
+        this.metricsRegistry = metricsRegistry;
+        this.enabled = enabled;
+        this.repeatThreshold = repeatThreshold;
+        this.defaultMaxStatements = defaultMaxStatements;
+        this.enforce = enforce;
+        this.budgets = parseBudgets(routeBudgets);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    /**
+     * Record a finished request and check it against its budget
+     *
+     * @return a description of the exceeded budget when the request should fail, otherwise null
+     */
+    public String complete(String method, String route, SqlActivity activity) {
+        requests.increment();
+        metricsRegistry.histogram("streamhub_request_sql_statements", "JDBC statements executed per request",
+            STATEMENT_BUCKETS, ROUTE, method, route).record(activity.getStatements());
+        metricsRegistry.histogram("streamhub_request_sql_rows", "Result set rows read per request",
+            ROW_BUCKETS, ROUTE, method, route).record(activity.getRows());
+        metricsRegistry.histogram("streamhub_request_sql_seconds", "Time spent executing statements per request",
+            ROUTE, method, route).recordNanos(activity.getNanos());
+
+        String endpoint = method + " " + route;
+        List<SqlActivity.NPlusOneSuspect> suspects = activity.getSuspects();
+        if (!suspects.isEmpty()) {
+            requestsWithSuspects.increment();
+            metricsRegistry.counter("streamhub_sql_n_plus_one_total", "Requests with repeated identical SELECTs",
+                ROUTE, method, route).increment();
+            for (SqlActivity.NPlusOneSuspect suspect : suspects) {
+                logger.warning("N+1 suspect in " + endpoint + ": " + suspect.summary());
+            }
+        }
+
+        int budget = budget(endpoint);
+        String violation = exceeded(endpoint, budget, activity.getStatements());
+        if (violation != null) {
+            budgetViolations.increment();
+            metricsRegistry.counter("streamhub_sql_budget_exceeded_total", "Requests over their statement budget",
+                ROUTE, method, route).increment();
+            logger.warning("SQL budget exceeded: " + violation);
+        }
+
+        if (violation != null || !suspects.isEmpty()) {
+            List<String> summaries = new ArrayList<>();
+            suspects.forEach(suspect -> summaries.add(suspect.summary()));
+            Finding finding = new Finding(endpoint, activity.getStatements(), activity.getRows(),
+                TimeUnit.NANOSECONDS.toMillis(activity.getNanos()), budget > 0 ? budget : null, violation != null,
+                summaries, LocalDateTime.now());
+            synchronized (recent) {
+                if (recent.size() == HISTORY) {
+                    recent.removeFirst();
+                }
+                recent.addLast(finding);
+            }
+        }
+        return enforce ? violation : null;
+    }
+
+    /**
+     * Check a request that is still running against its budget, without recording anything
+     *
+     * @return a description of the exceeded budget when enforcement is on and the request is over it, otherwise null
+     */
+    public String violation(String method, String route, long statements) {
+        if (!enforce) {
+            return null;
+        }
+        String endpoint = method + " " + route;
+        return exceeded(endpoint, budget(endpoint), statements);
+    }
+
+    private int budget(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultMaxStatements);
+    }
+
+    private static String exceeded(String endpoint, int budget, long statements) {
+        return budget > 0 && statements > budget
+            ? endpoint + " executed " + statements + " statements, budget is " + budget : null;
+    }
+
+    public SqlBudgetStats getStatistics() {
+        List<Finding> findings;
+        synchronized (recent) {
+            findings = new ArrayList<>(recent);
+        }
+        return new SqlBudgetStats(enabled, enforce, repeatThreshold, defaultMaxStatements, budgets, requests.sum(),
+            requestsWithSuspects.sum(), budgetViolations.sum(), findings);
+    }
+
+    private static Map<String, Integer> parseBudgets(List<String> routeBudgets) {
+        Map<String, Integer> parsed = new HashMap<>();
+        for (String entry : routeBudgets) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int equals = entry.lastIndexOf('=');
+            String endpoint = equals > 0 ? entry.substring(0, equals).trim().replaceAll("\\s+", " ") : "";
+            if (endpoint.indexOf(' ') < 0) {
+                throw new IllegalArgumentException("SQL budget must look like 'GET /v1/catalog=3': " + entry);
+            }
+            parsed.put(endpoint, Integer.parseInt(entry.substring(equals + 1).trim()));
+        }
+        return parsed;
+    }
+
+    public record Finding(String endpoint, long statements, long rows, long sqlMillis, Integer budget,
+                          boolean budgetExceeded, List<String> nPlusOneSuspects, LocalDateTime at) {
+    }
+
+    public record SqlBudgetStats(boolean enabled, boolean enforce, int nPlusOneThreshold, int defaultMaxStatements,
+                                 Map<String, Integer> routeBudgets, long requests, long requestsWithNPlusOne,
+                                 long budgetViolations, List<Finding> recent) {
+    }
+}
@@ -0,0 +1,418 @@
+package com.streamhub.service;
+
+import com.streamhub.repository.RevenueRollupRepository;
+import com.streamhub.repository.RevenueRollupRepository.RollupDelta;
+import com.streamhub.repository.SubscriptionRenewalRepository;
+import com.streamhub.repository.SubscriptionRenewalRepository.Checkpoint;
+import com.streamhub.repository.SubscriptionRenewalRepository.DueSubscription;
+import com.streamhub.repository.SubscriptionRenewalRepository.PaymentSource;
+import com.streamhub.repository.SubscriptionRenewalRepository.Renewal;
+import com.streamhub.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Nightly subscription expiry and renewal.
+ * A run splits the subscription id space into one range per worker thread. Each worker walks its range in
+ * keyset-ordered chunks of due subscriptions and handles every chunk in its own transaction:
+ * <ul>
+ *   <li>active subscriptions past their end date whose plan is still offered get a PENDING renewal payment,
+ *       using the method and currency of their latest payment, and become PAST_DUE</li>
+ *   <li>other active ones, and past-due ones beyond the grace period, become EXPIRED</li>
+ * </ul>
+ * Status changes are set-based UPDATEs, renewals one JDBC batch, and the worker's checkpoint advances in the
+ * same transaction, so a run interrupted part way resumes from its checkpoints without repeating work.
+ * A failing chunk is retried with exponential backoff; if it keeps failing it is replayed one subscription per
+ * transaction and the subscriptions that still fail are set aside (logged, left due for the next run) so the
+ * rest of the range goes on. Runs execute on the engine's own thread, never on the shared scheduler thread.
+ * Settling renewal payments and extending the subscription is left to the payment gateway integration.
+ */
+@Component
+public class SubscriptionRenewalEngine {
+
+    private static final Logger logger = Logger.getLogger(SubscriptionRenewalEngine.class.getName());
+    private static final String ENGINE_USER = "RENEWAL_ENGINE";
+
+    private final SubscriptionRenewalRepository renewalRepository;
+    private final RevenueRollupRepository rollupRepository;
+    private final EntitlementService entitlementService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int workers;
+    private final int chunkSize;
+    private final int graceDays;
+    private final int checkpointRetentionDays;
+    private final int chunkRetries;
+    private final long retryBackoffMillis;
+    private final ExecutorService runner;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile RunProgress current;
+    private volatile RenewalRunStats lastRun;
+
+    public SubscriptionRenewalEngine(SubscriptionRenewalRepository renewalRepository,
+                                     RevenueRollupRepository rollupRepository,
+                                     EntitlementService entitlementService,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${streamhub.subscriptions.renewal.enabled:true}") boolean enabled,
+                                     @Value("${streamhub.subscriptions.renewal.workers:4}") int workers,
+                                     @Value("${streamhub.subscriptions.renewal.chunk-size:500}") int chunkSize,
+                                     @Value("${streamhub.subscriptions.renewal.grace-days:7}") int graceDays,
+                                     @Value("${streamhub.subscriptions.renewal.checkpoint-retention-days:30}") int checkpointRetentionDays,
+                                     @Value("${streamhub.subscriptions.renewal.chunk-retries:3}") int chunkRetries,
+                                     @Value("${streamhub.subscriptions.renewal.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.renewalRepository = renewalRepository;
+        this.rollupRepository = rollupRepository;
+        this.entitlementService = entitlementService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.workers = Math.max(1, workers);
+        this.chunkSize = chunkSize;
+        this.graceDays = graceDays;
+        this.checkpointRetentionDays = checkpointRetentionDays;
+        this.chunkRetries = Math.max(0, chunkRetries);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "subscription-renewal-run");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Hands the run to the engine's thread, so the scheduler thread is free for the other scheduled jobs
+     */
+    @Scheduled(cron = "${streamhub.subscriptions.renewal.cron:0 15 2 * * *}")
+    public void runScheduled() {
+        if (enabled && !start(LocalDate.now())) {
+            logger.warning("Scheduled subscription renewal run skipped, another run is in progress");
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        runner.shutdownNow();
+    }
+
+    /**
+     * Finish today's run if the application stopped while it was in progress
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        boolean interrupted = renewalRepository.findCheckpoints(today).stream().anyMatch(checkpoint -> !checkpoint.completed());
+        if (interrupted) {
+            logger.info("Resuming interrupted subscription renewal run of " + today);
+            start(today);
+        }
+    }
+
+    /**
+     * Start a run on a background thread
+     *
+     * @return false if a run is already in progress
+     */
+    public boolean start(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            runner.execute(() -> runClaimed(runDate));
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Process every subscription due on the run date, continuing from the run's checkpoints if it was started before
+     *
+     * @return the run's counters, or null if another run was in progress
+     */
+    public RenewalRunStats run(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            logger.warning("Subscription renewal run of " + runDate + " skipped, another run is in progress");
+            return null;
+        }
+        return runClaimed(runDate);
+    }
+
+    /**
+     * Body of a run; the caller has set the running flag, which is cleared here
+     */
+    private RenewalRunStats runClaimed(LocalDate runDate) {
+        RunProgress progress = new RunProgress(runDate);
+        current = progress;
+        try {
+            renewalRepository.deleteCheckpointsBefore(runDate.minusDays(checkpointRetentionDays));
+            List<Checkpoint> checkpoints = checkpoints(runDate);
+            List<Checkpoint> pending = checkpoints.stream().filter(checkpoint -> !checkpoint.completed()).toList();
+            if (!pending.isEmpty()) {
+                process(progress, pending);
+            }
+            RenewalRunStats stats = progress.toStats(false);
+            lastRun = stats;
+            logger.info("Subscription renewal run of " + runDate + ": " + stats.processed() + " subscriptions in "
+                + stats.elapsedMs() + " ms (" + stats.subscriptionsPerSecond() + "/s), " + stats.expired() + " expired, "
+                + stats.pastDue() + " past due, " + stats.renewals() + " renewals, " + stats.failedChunks() + " failed chunks, "
+                + stats.setAside() + " set aside");
+            return stats;
+        } finally {
+            current = null;
+            running.set(false);
+        }
+    }
+
+    public RenewalRunStats getStatistics() {
+        RunProgress progress = current;
+        return progress != null ? progress.toStats(true) : lastRun;
+    }
+
+    /**
+     * The run's partitions, splitting the id space evenly across workers the first time
+     */
+    private List<Checkpoint> checkpoints(LocalDate runDate) {
+        List<Checkpoint> existing = renewalRepository.findCheckpoints(runDate);
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+        long[] range = renewalRepository.idRange();
+        if (range == null) {
+            return List.of();
+        }
+        long span = range[1] - range[0] + 1;
+        int partitions = (int) Math.min(workers, span);
+        List<Checkpoint> created = new ArrayList<>(partitions);
+        long start = range[0];
+        for (int worker = 0; worker < partitions; worker++) {
+            long end = worker == partitions - 1 ? range[1] : start + span / partitions - 1;
+            created.add(new Checkpoint(worker, start, end, start - 1, 0, 0, 0, 0, false));
+            start = end + 1;
+        }
+        renewalRepository.createCheckpoints(runDate, created);
+        return renewalRepository.findCheckpoints(runDate);
+    }
+
+    private void process(RunProgress progress, List<Checkpoint> partitions) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, partitions.size()), runnable -> {
+            Thread thread = new Thread(runnable, "subscription-renewal-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(partitions.size());
+            for (Checkpoint partition : partitions) {
+                futures.add(executor.submit(() -> processPartition(progress, partition)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Subscription renewal worker failed: " + e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Walk one id range chunk by chunk. A chunk that still fails after its retries is set aside row by row;
+     * if even that cannot move the checkpoint (the database is gone), the partition stops there for the next attempt.
+     */
+    private void processPartition(RunProgress progress, Checkpoint partition) {
+        LocalDate runDate = progress.runDate;
+        LocalDate graceCutoff = runDate.minusDays(graceDays);
+        int worker = partition.worker();
+        long lastId = partition.lastId();
+        while (true) {
+            List<DueSubscription> chunk = renewalRepository.findDue(lastId, partition.rangeEnd(), runDate, graceCutoff, chunkSize);
+            if (chunk.isEmpty()) {
+                renewalRepository.completeCheckpoint(runDate, worker);
+                return;
+            }
+            if (!processWithRetry(progress, worker, chunk, graceCutoff)) {
+                progress.failedChunks.increment();
+                if (Thread.currentThread().isInterrupted() || !setAside(progress, worker, chunk, graceCutoff)) {
+                    logger.severe("Subscription renewal worker " + worker + " stops at its checkpoint after id " + lastId);
+                    return;
+                }
+            }
+            progress.chunks.increment();
+            lastId = chunk.get(chunk.size() - 1).id();
+        }
+    }
+
+    /**
+     * Run the chunk's transaction, retrying with exponential backoff
+     *
+     * @return false if every attempt failed or the worker was interrupted while backing off
+     */
+    private boolean processWithRetry(RunProgress progress, int worker, List<DueSubscription> chunk, LocalDate graceCutoff) {
+        long backoff = retryBackoffMillis;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> processChunk(progress, worker, chunk, graceCutoff));
+                return true;
+            } catch (RuntimeException e) {
+                logger.warning("Subscription renewal chunk " + chunk.get(0).id() + ".." + chunk.get(chunk.size() - 1).id()
+                    + " failed (attempt " + (attempt + 1) + " of " + (chunkRetries + 1) + "): " + e.getMessage());
+                if (attempt >= chunkRetries) {
+                    return false;
+                }
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoff *= 2;
+        }
+    }
+
+    /**
+     * Replay a failed chunk one subscription per transaction, skipping the ones that fail.
+     * A skipped subscription keeps its status, so it is due again on the next run.
+     *
+     * @return false if the checkpoint could not be moved past a skipped subscription
+     */
+    private boolean setAside(RunProgress progress, int worker, List<DueSubscription> chunk, LocalDate graceCutoff) {
+        for (DueSubscription subscription : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                    status -> processChunk(progress, worker, List.of(subscription), graceCutoff));
+            } catch (RuntimeException e) {
+                logger.severe("Subscription " + subscription.id() + " set aside by renewal worker " + worker + ": "
+                    + e.getMessage());
+                try {
+                    renewalRepository.advanceCheckpoint(progress.runDate, worker, subscription.id(), 0, 0, 0, 0);
+                } catch (RuntimeException checkpointFailure) {
+                    logger.severe("Renewal checkpoint of worker " + worker + " could not move past subscription "
+                        + subscription.id() + ": " + checkpointFailure.getMessage());
+                    return false;
+                }
+                progress.setAside.increment();
+            }
+        }
+        return true;
+    }
+
+    private void processChunk(RunProgress progress, int worker, List<DueSubscription> chunk, LocalDate graceCutoff) {
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (DueSubscription subscription : chunk) {
+            ids.add(subscription.id());
+        }
+        // Rows changed since the scan, e.g. renewed by a payment in the meantime, drop out here
+        Set<Long> due = renewalRepository.lockDue(ids, progress.runDate, graceCutoff);
+
+        List<Long> renewable = new ArrayList<>();
+        for (DueSubscription subscription : chunk) {
+            if (due.contains(subscription.id()) && "ACTIVE".equals(subscription.status()) && subscription.planActive()) {
+                renewable.add(subscription.id());
+            }
+        }
+        Map<Long, PaymentSource> sources = renewalRepository.latestPaymentSources(renewable);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> expired = new ArrayList<>();
+        List<Long> pastDue = new ArrayList<>();
+        List<Renewal> renewals = new ArrayList<>();
+        List<RollupDelta> rollupDeltas = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        for (DueSubscription subscription : chunk) {
+            if (!due.contains(subscription.id())) {
+                continue;
+            }
+            userIds.add(subscription.userId());
+            PaymentSource source = sources.get(subscription.id());
+            if (source == null) {
+                expired.add(subscription.id());
+                continue;
+            }
+            String currency = source.currency() != null ? source.currency() : "USD";
+            pastDue.add(subscription.id());
+            renewals.add(new Renewal(subscription.id(), subscription.userId(), subscription.planId(), subscription.price(),
+                currency, source.paymentMethod()));
+            rollupDeltas.add(new RollupDelta(now.toLocalDate(), currency, subscription.id(), subscription.planId(), "PENDING",
+                1, subscription.price()));
+        }
+
+        renewalRepository.updateStatus(expired, "EXPIRED", ENGINE_USER);
+        renewalRepository.updateStatus(pastDue, "PAST_DUE", ENGINE_USER);
+        renewalRepository.insertRenewals(renewals, now, ENGINE_USER);
+        // Plain JDBC inserts bypass the JPA listener that maintains the rollups
+        rollupRepository.applyDeltas(rollupDeltas);
+        renewalRepository.advanceCheckpoint(progress.runDate, worker, chunk.get(chunk.size() - 1).id(), due.size(),
+            expired.size(), pastDue.size(), renewals.size());
+
+        AfterCommit.run(() -> {
+            progress.processed.add(due.size());
+            progress.expired.add(expired.size());
+            progress.pastDue.add(pastDue.size());
+            progress.renewals.add(renewals.size());
+            for (Long userId : userIds) {
+                entitlementService.invalidate(userId);
+            }
+        });
+    }
+
+    public record RenewalRunStats(LocalDate runDate, boolean running, long processed, long expired, long pastDue,
+                                  long renewals, long chunks, long failedChunks, long setAside, long elapsedMs,
+                                  long subscriptionsPerSecond) {
+    }
+
+    /**
+     * Counters of the run in progress, as committed so far
+     */
+    private static final class RunProgress {
+
+        private final LocalDate runDate;
+        private final long startedNanos = System.nanoTime();
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder expired = new LongAdder();
+        private final LongAdder pastDue = new LongAdder();
+        private final LongAdder renewals = new LongAdder();
+        private final LongAdder chunks = new LongAdder();
+        private final LongAdder failedChunks = new LongAdder();
+        private final LongAdder setAside = new LongAdder();
+
+        RunProgress(LocalDate runDate) {
+            this.runDate = runDate;
+        }
+
+        RenewalRunStats toStats(boolean running) {
+            long elapsedMs = (System.nanoTime() - startedNanos) / 1_000_000;
+            long total = processed.sum();
+            return new RenewalRunStats(runDate, running, total, expired.sum(), pastDue.sum(), renewals.sum(),
+                chunks.sum(), failedChunks.sum(), setAside.sum(), elapsedMs, elapsedMs > 0 ? total * 1000 / elapsedMs : total);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.streamhub.service;
+
+import com.streamhub.repository.AccessControlLogRepository;
+import com.streamhub.repository.projection.AccessEventView;
+import com.streamhub.util.CountMinSketch;
+import com.streamhub.util.LongIntHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Streaming view counts over sliding 1h, 24h and 7d windows, fed by granted access checks.
+ * Each window is a ring of time buckets holding count-min sketches plus a running window sketch,
+ * so expiring a bucket subtracts it from the window total. Heavy hitters are kept as a bounded
+ * candidate set per window, re-estimated whenever a bucket expires and when read.
+ * Counts are approximate and never undercount.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final Logger logger = Logger.getLogger(TrendingTracker.class.getName());
+
+    public enum TrendingWindow {
+        HOUR("1h", 12, TimeUnit.MINUTES.toMillis(5)),
+        DAY("24h", 24, TimeUnit.HOURS.toMillis(1)),
+        WEEK("7d", 42, TimeUnit.HOURS.toMillis(4));
+
+        private final String param;
+        private final int buckets;
+        private final long bucketMillis;
+
+        TrendingWindow(String param, int buckets, long bucketMillis) {
+            this.param = param;
+            this.buckets = buckets;
+            this.bucketMillis = bucketMillis;
+        }
+
+        public String getParam() {
+            return param;
+        }
+
+        public long getMillis() {
+            return buckets * bucketMillis;
+        }
+
+        public static TrendingWindow fromParam(String param) {
+            for (TrendingWindow window : values()) {
+                if (window.param.equalsIgnoreCase(param)) {
+                    return window;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported trending window: " + param);
+        }
+    }
+
+    private final AccessControlLogRepository accessControlLogRepository;
+    private final boolean enabled;
+    private final boolean seedOnStartup;
+    private final int seedBatchSize;
+    private final Map<TrendingWindow, SlidingWindow> windows = new EnumMap<>(TrendingWindow.class);
+    private final LongAdder events = new LongAdder();
+    private volatile boolean seeded;
+
+    public TrendingTracker(AccessControlLogRepository accessControlLogRepository,
+                           @Value("${streamhub.trending.enabled:true}") boolean enabled,
+                           @Value("${streamhub.trending.sketch-depth:4}") int depth,
+                           @Value("${streamhub.trending.sketch-width:2048}") int width,
+                           @Value("${streamhub.trending.candidates:400}") int candidates,
+                           @Value("${streamhub.trending.seed-on-startup:true}") boolean seedOnStartup,
+                           @Value("${streamhub.trending.seed-batch-size:5000}") int seedBatchSize) {
+        this.accessControlLogRepository = accessControlLogRepository;
+        this.enabled = enabled;
+        this.seedOnStartup = seedOnStartup;
+        this.seedBatchSize = seedBatchSize;
+        long now = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windows.put(window, new SlidingWindow(window, depth, width, candidates, now));
+        }
+    }
+
+    /**
+     * Count one view of a content item at the given time
+     */
+    public void record(long contentId, long epochMillis) {
+        if (!enabled) {
+            return;
+        }
+        events.increment();
+        long now = System.currentTimeMillis();
+        for (SlidingWindow window : windows.values()) {
+            window.add(contentId, Math.min(epochMillis, now), now);
+        }
+    }
+
+    /**
+     * Most viewed content in the window, highest estimated count first
+     */
+    public List<TrendingItem> top(TrendingWindow window, int limit) {
+        if (!enabled) {
+            return List.of();
+        }
+        return windows.get(window).top(limit, System.currentTimeMillis());
+    }
+
+    /**
+     * Replay granted access events of the last week so a restart does not empty the windows
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        if (!enabled || !seedOnStartup) {
+            seeded = true;
+            return;
+        }
+        Thread seeder = new Thread(this::seed, "trending-seed");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    private void seed() {
+        long started = System.nanoTime();
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime until = LocalDateTime.now();
+        LocalDateTime since = until.minusNanos(TimeUnit.MILLISECONDS.toNanos(TrendingWindow.WEEK.getMillis()));
+        long replayed = 0;
+        try {
+            long afterId = 0;
+            List<AccessEventView> batch;
+            do {
+                batch = accessControlLogRepository.findGrantedEventsSince(afterId, since, PageRequest.of(0, seedBatchSize));
+                for (AccessEventView event : batch) {
+                    afterId = event.id();
+                    // Events after startup are already counted live
+                    if (event.timestamp().isBefore(until)) {
+                        record(event.contentId(), event.timestamp().atZone(zone).toInstant().toEpochMilli());
+                        replayed++;
+                    }
+                }
+            } while (batch.size() == seedBatchSize);
+            logger.info("Trending windows seeded with " + replayed + " access events in "
+                + (System.nanoTime() - started) / 1_000_000 + " ms");
+        } catch (RuntimeException e) {
+            logger.warning("Seeding trending windows failed after " + replayed + " events: " + e.getMessage());
+        } finally {
+            seeded = true;
+        }
+    }
+
+    public TrendingStats getStatistics() {
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        windows.forEach((window, sliding) -> candidates.put(window.getParam(), sliding.candidateCount()));
+        return new TrendingStats(enabled, seeded, events.sum(), candidates);
+    }
+
+    public record TrendingItem(long contentId, long views) {
+    }
+
+    public record TrendingStats(boolean enabled, boolean seeded, long events, Map<String, Integer> candidates) {
+    }
+
+    /**
+     * One window: a ring of bucket sketches, their running sum and the heavy-hitter candidates
+     */
+    private static final class SlidingWindow {
+
+        private final long bucketMillis;
+        private final CountMinSketch[] buckets;
+        private final CountMinSketch total;
+        private final int capacity;
+        private final LongIntHashMap candidates;
+        // Lower bound of the smallest candidate estimate; exact after every eviction or refresh
+        private int minCandidate;
+        private long currentBucket;
+
+        SlidingWindow(TrendingWindow window, int depth, int width, int capacity, long now) {
+            this.bucketMillis = window.bucketMillis;
+            this.buckets = new CountMinSketch[window.buckets];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new CountMinSketch(depth, width);
+            }
+            this.total = new CountMinSketch(depth, width);
+            this.capacity = capacity;
+            this.candidates = new LongIntHashMap(capacity, -1);
+            this.currentBucket = now / bucketMillis;
+        }
+
+        synchronized void add(long contentId, long epochMillis, long now) {
+            advance(now / bucketMillis);
+            long bucket = epochMillis / bucketMillis;
+            if (bucket <= currentBucket - buckets.length) {
+                return;
+            }
+            buckets[(int) (bucket % buckets.length)].add(contentId, 1);
+            total.add(contentId, 1);
+            offer(contentId, total.estimate(contentId));
+        }
+
+        synchronized List<TrendingItem> top(int limit, long now) {
+            advance(now / bucketMillis);
+            List<TrendingItem> items = new ArrayList<>(candidates.size());
+            candidates.forEach((contentId, estimate) -> items.add(new TrendingItem(contentId, estimate)));
+            items.sort((a, b) -> a.views() == b.views()
+                ? Long.compare(b.contentId(), a.contentId())
+                : Long.compare(b.views(), a.views()));
+            return new ArrayList<>(items.subList(0, Math.min(limit, items.size())));
+        }
+
+        synchronized int candidateCount() {
+            return candidates.size();
+        }
+
+        private void offer(long contentId, int estimate) {
+            if (candidates.get(contentId) >= 0 || candidates.size() < capacity) {
+                candidates.put(contentId, estimate);
+                minCandidate = Math.min(minCandidate, estimate);
+                return;
+            }
+            if (estimate <= minCandidate) {
+                return;
+            }
+            long[] weakest = {0, Integer.MAX_VALUE};
+            candidates.forEach((id, value) -> {
+                if (value < weakest[1]) {
+                    weakest[0] = id;
+                    weakest[1] = value;
+                }
+            });
+            if (estimate > weakest[1]) {
+                candidates.remove(weakest[0]);
+                candidates.put(contentId, estimate);
+            }
+            recomputeMin();
+        }
+
+        /**
+         * Expire buckets that slid out of the window and re-estimate the candidates
+         */
+        private void advance(long nowBucket) {
+            if (nowBucket <= currentBucket) {
+                return;
+            }
+            if (nowBucket - currentBucket >= buckets.length) {
+                for (CountMinSketch bucket : buckets) {
+                    bucket.clear();
+                }
+                total.clear();
+            } else {
+                for (long bucket = currentBucket + 1; bucket <= nowBucket; bucket++) {
+                    CountMinSketch expired = buckets[(int) (bucket % buckets.length)];
+                    total.subtract(expired);
+                    expired.clear();
+                }
+            }
+            currentBucket = nowBucket;
+
+            long[] ids = new long[candidates.size()];
+            int[] count = {0};
+            candidates.forEach((id, value) -> ids[count[0]++] = id);
+            for (long id : ids) {
+                int estimate = total.estimate(id);
+                if (estimate == 0) {
+                    candidates.remove(id);
+                } else {
+                    candidates.put(id, estimate);
+                }
+            }
+            recomputeMin();
+        }
+
+        private void recomputeMin() {
+            int[] min = {candidates.size() < capacity ? 0 : Integer.MAX_VALUE};
+            candidates.forEach((id, value) -> min[0] = Math.min(min[0], value));
+            minCandidate = min[0];
+        }
+    }
+}
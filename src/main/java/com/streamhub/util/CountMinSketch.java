@@ -0,0 +1,68 @@
+package com.streamhub.util;
+
+import java.util.Arrays;
+
+/**
+ * Count-min sketch over long keys: a depth x width table of counters, one hashed column per row.
+ * Estimates never undercount and overcount by at most total/width with high probability.
+ * Sketches of the same shape are linear, so a window total can subtract an expired bucket.
+ * Not thread-safe; callers guard it with their own lock.
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int mask;
+    private final int[] counts;
+
+    /**
+     * @param depth number of hash rows, at most 8
+     * @param width counters per row, rounded up to a power of two
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        int columns = Integer.highestOneBit(Math.max(2, width) - 1) << 1;
+        this.depth = depth;
+        this.mask = columns - 1;
+        this.counts = new int[depth * columns];
+    }
+
+    public void add(long key, int delta) {
+        for (int row = 0; row < depth; row++) {
+            counts[index(row, key)] += delta;
+        }
+    }
+
+    public int estimate(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[index(row, key)]);
+        }
+        return Math.max(0, min);
+    }
+
+    /**
+     * Remove the counts of a sketch with the same shape
+     */
+    public void subtract(CountMinSketch other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] -= other.counts[i];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    private int index(int row, long key) {
+        long h = (key ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 31)) * 0x94D049BB133111EBL;
+        return row * (mask + 1) + (int) ((h ^ (h >>> 29)) & mask);
+    }
+}
@@ -0,0 +1,82 @@
+package com.streamhub.util;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram in the Prometheus style: one counter per upper bound plus an overflow bucket,
+ * a running sum and a count. Recording is lock-free; a snapshot taken while values are recorded may be
+ * off by the in-flight samples, which is fine for scraping.
+ */
+public class Histogram {
+
+    /**
+     * Upper bounds in seconds, from 1 ms to 10 s, for request and query latencies
+     */
+    public static final double[] LATENCY_SECONDS = {
+        0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0
+    };
+
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * @param bounds bucket upper bounds in ascending order; values above the last one go to the +Inf bucket
+     */
+    public Histogram(double[] bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("Bucket bounds must be ascending");
+            }
+        }
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(double value) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        buckets[low].increment();
+        sum.add(value);
+    }
+
+    public void recordNanos(long nanos) {
+        record(nanos / 1_000_000_000.0);
+    }
+
+    public double[] getBounds() {
+        return bounds.clone();
+    }
+
+    /**
+     * Cumulative counts per bound, the last element being the +Inf bucket (the total count)
+     */
+    public Snapshot snapshot() {
+        long[] cumulative = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        return new Snapshot(cumulative, sum.sum());
+    }
+
+    public record Snapshot(long[] cumulativeCounts, double sum) {
+
+        public long count() {
+            return cumulativeCounts[cumulativeCounts.length - 1];
+        }
+    }
+}
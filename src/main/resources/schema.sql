@@ -134,11 +134,30 @@ CREATE TABLE IF NOT EXISTS subscription (
     INDEX idx_status (status)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- Progress of the nightly expiry and renewal run. Each run splits the subscription id space into one
+-- range per worker; last_id advances in the same transaction as each processed chunk, so an interrupted
+-- run resumes where it stopped.
+CREATE TABLE IF NOT EXISTS subscription_renewal_checkpoint (
+    run_date DATE NOT NULL,
+    worker INT NOT NULL,
+    range_start BIGINT UNSIGNED NOT NULL,
+    range_end BIGINT UNSIGNED NOT NULL,
+    last_id BIGINT UNSIGNED NOT NULL,
+    processed BIGINT NOT NULL DEFAULT 0,
+    expired BIGINT NOT NULL DEFAULT 0,
+    past_due BIGINT NOT NULL DEFAULT 0,
+    renewals BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (run_date, worker)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- Payment/Billing History Table
 CREATE TABLE IF NOT EXISTS payment_transaction (
     id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
     subscription_id BIGINT UNSIGNED NOT NULL,
     user_id BIGINT UNSIGNED NOT NULL,
+    plan_id BIGINT UNSIGNED,
     amount DECIMAL(10, 2) NOT NULL,
     currency VARCHAR(3) DEFAULT 'USD',
     payment_method ENUM('CREDIT_CARD', 'PAYPAL', 'STRIPE', 'APPLE_PAY') NOT NULL,
@@ -153,24 +172,40 @@ CREATE TABLE IF NOT EXISTS payment_transaction (
     INDEX idx_pay_status (transaction_status)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- plan_id is the subscription's plan when the payment was created, so revenue rollups keep a payment in its
+-- original plan after the subscription changes plan. Adding it to an existing table:
+-- ALTER TABLE payment_transaction ADD COLUMN plan_id BIGINT UNSIGNED AFTER user_id;
+-- UPDATE payment_transaction p JOIN subscription s ON s.id = p.subscription_id SET p.plan_id = s.plan_id WHERE p.plan_id IS NULL;
+
 -- -----------------------------------------------------------------------------
 -- SECTION 4: ACCESS CONTROL & DRM
 -- -----------------------------------------------------------------------------
 
+-- Range-partitioned by month on timestamp. The application splits monthly partitions off pmax ahead of time
+-- and archives and drops partitions past the retention period. MySQL requires the partitioning column in the
+-- primary key and does not support foreign keys on partitioned tables, so content_id and user_id are unconstrained.
 CREATE TABLE IF NOT EXISTS access_control_log (
-    id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT UNSIGNED AUTO_INCREMENT,
     content_id BIGINT UNSIGNED NOT NULL,
     user_id BIGINT UNSIGNED NOT NULL,
     access_status ENUM('GRANTED', 'DENIED_NO_SUBSCRIPTION', 'DENIED_DRM_VIOLATION') NOT NULL,
     ip_address VARCHAR(45),
     user_agent TEXT,
-    timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     content_title_snapshot VARCHAR(255), 
-    CONSTRAINT fk_acl_content FOREIGN KEY (content_id) REFERENCES content(id) ON DELETE RESTRICT,
-    CONSTRAINT fk_acl_user FOREIGN KEY (user_id) REFERENCES app_user(id) ON DELETE RESTRICT,
+    PRIMARY KEY (id, timestamp),
     INDEX idx_access_content (content_id),
     INDEX idx_access_user_time (user_id, timestamp)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+PARTITION BY RANGE (UNIX_TIMESTAMP(timestamp)) (
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+-- Converting an existing unpartitioned access_control_log (history lands in monthly partitions on next startup):
+-- ALTER TABLE access_control_log DROP FOREIGN KEY fk_acl_content, DROP FOREIGN KEY fk_acl_user;
+-- ALTER TABLE access_control_log MODIFY timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+--     DROP PRIMARY KEY, ADD PRIMARY KEY (id, timestamp);
+-- ALTER TABLE access_control_log PARTITION BY RANGE (UNIX_TIMESTAMP(timestamp)) (PARTITION pmax VALUES LESS THAN MAXVALUE);
 
 -- -----------------------------------------------------------------------------
 -- SECTION 5: ANALYTICS & AUDIT
@@ -189,6 +224,28 @@ CREATE TABLE IF NOT EXISTS revenue_report (
     INDEX idx_report_dates (report_period_start, report_period_end)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- Per-day revenue totals, adjusted in the same transaction as every payment_transaction write.
+-- plan_id is the subscription's plan when the payment was recorded. Revenue reports sum these rows
+-- instead of scanning payment_transaction.
+CREATE TABLE IF NOT EXISTS revenue_daily_rollup (
+    rollup_date DATE NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    plan_id BIGINT UNSIGNED NOT NULL,
+    transaction_status VARCHAR(50) NOT NULL,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (rollup_date, currency, plan_id, transaction_status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- HyperLogLog sketch (2048 one-byte registers) of the users with a successful payment on each day.
+-- Sketches merge register-wise, so the distinct payers of any period come from its daily rows.
+CREATE TABLE IF NOT EXISTS revenue_daily_payers (
+    rollup_date DATE PRIMARY KEY,
+    payer_sketch VARBINARY(2048) NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE IF NOT EXISTS system_audit_log (
     id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
     table_name VARCHAR(100) NOT NULL,
@@ -0,0 +1,48 @@
+package com.streamhub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ContentSearchIndexTest {
+
+    @Test
+    void pagesDoNotOverlap() {
+        ContentSearchIndex index = new ContentSearchIndex(null, true, 1000);
+        for (long id = 1; id <= 20; id++) {
+            // Longer descriptions score lower, so every document has a distinct rank
+            index.index(id, "Movie " + id, "Drama", "filler ".repeat((int) id));
+        }
+
+        ContentSearchIndex.SearchResult first = index.search("movie", 0, 5);
+        ContentSearchIndex.SearchResult second = index.search("movie", 5, 5);
+        ContentSearchIndex.SearchResult both = index.search("movie", 0, 10);
+
+        assertEquals(20, second.total());
+        assertEquals(5, second.contentIds().length);
+        Set<Long> firstIds = new HashSet<>();
+        Arrays.stream(first.contentIds()).forEach(firstIds::add);
+        for (long id : second.contentIds()) {
+            assertFalse(firstIds.contains(id), "page 1 repeats content " + id + " from page 0");
+        }
+        assertArrayEquals(Arrays.copyOfRange(both.contentIds(), 5, 10), second.contentIds());
+    }
+
+    @Test
+    void offsetPastLastHitReturnsNothing() {
+        ContentSearchIndex index = new ContentSearchIndex(null, true, 1000);
+        index.index(1, "Movie", "Drama", "");
+        index.index(2, "Movie night", "Comedy", "");
+
+        ContentSearchIndex.SearchResult result = index.search("movie", 5, 5);
+
+        assertEquals(0, result.contentIds().length);
+        assertEquals(2, result.total());
+    }
+}